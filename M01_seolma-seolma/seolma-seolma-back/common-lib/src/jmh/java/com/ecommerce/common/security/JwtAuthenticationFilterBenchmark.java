@@ -0,0 +1,74 @@
+package com.ecommerce.common.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 요청 1건 처리 시간
+ *
+ * - cacheEnabled=false: 토큰을 매 요청 한 번 파싱/서명 검증
+ * - cacheEnabled=true: 같은 토큰의 반복 요청은 검증 캐시에서 처리
+ * - invalidToken: 서명이 틀린 토큰 (캐시하지 않으므로 매번 검증 후 401)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "mySecretKeyForJWTTokenGenerationThatShouldBeAtLeast256BitsLong";
+
+    @Param({"false", "true"})
+    public boolean cacheEnabled;
+
+    private JwtAuthenticationFilter filter;
+    private String validToken;
+    private String invalidToken;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 3600, 30, cacheEnabled, 10000);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, new TokenRevocationIndex(new LocalTokenRevocationChannel(), 10000));
+        validToken = jwtTokenProvider.createToken("user1", "ROLE_USER");
+        invalidToken = validToken.substring(0, validToken.length() - 2) + "xx";
+    }
+
+    @Benchmark
+    public Object validToken() throws Exception {
+        return doFilter(validToken);
+    }
+
+    @Benchmark
+    public Object invalidToken() throws Exception {
+        return doFilter(invalidToken);
+    }
+
+    private Object doFilter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders/my");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+            return request.getAttribute("X-User-Id") != null ? request.getAttribute("X-User-Id") : response.getStatus();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.ecommerce.common.config;
+
+import com.ecommerce.common.security.InternalAuthenticationFilter;
+import com.ecommerce.common.security.InternalRequestSigner;
+import com.ecommerce.common.security.JwtAuthenticationFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
+
+/**
+ * 내부 서비스 간 호출 전용 보안 설정
+ *
+ * 내부 경로는 외부 API용 필터 체인보다 먼저 매칭되는 별도 체인으로 처리한다.
+ * - JWT 파싱, CORS, CSRF, 세션/요청 캐시, 익명 인증, 보안 헤더, 인가 필터 없이 서명 확인 필터만 거친다
+ * - 외부(ALB/Nginx)에서 내부 경로로 들어오는 요청도 서명이 없으면 401
+ */
+@Configuration
+public class InternalSecurityConfig {
+    
+    public static final String[] INTERNAL_PATHS = {"/internal/**", "/api/v1/internal/**", "/api/internal/**"};
+    
+    @Bean
+    @Order(1)
+    public SecurityFilterChain internalFilterChain(HttpSecurity http, InternalRequestSigner internalRequestSigner) throws Exception {
+        http
+            .securityMatcher(INTERNAL_PATHS)
+            .csrf(AbstractHttpConfigurer::disable)
+            .cors(AbstractHttpConfigurer::disable)
+            .headers(AbstractHttpConfigurer::disable)
+            .sessionManagement(AbstractHttpConfigurer::disable)
+            .securityContext(AbstractHttpConfigurer::disable)
+            .requestCache(AbstractHttpConfigurer::disable)
+            .anonymous(AbstractHttpConfigurer::disable)
+            .servletApi(AbstractHttpConfigurer::disable)
+            .logout(AbstractHttpConfigurer::disable)
+            .exceptionHandling(AbstractHttpConfigurer::disable)
+            .addFilterBefore(new InternalAuthenticationFilter(internalRequestSigner), SecurityContextHolderFilter.class);
+        
+        return http.build();
+    }
+    
+    /**
+     * JwtAuthenticationFilter는 빈으로 등록되어 있어 서블릿 필터로도 자동 등록된다.
+     * 외부 API 보안 체인 안에서만 실행되도록 서블릿 필터 등록은 끈다 (내부 경로에서는 실행되지 않음).
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(JwtAuthenticationFilter jwtAuthenticationFilter) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
@@ -0,0 +1,35 @@
+package com.ecommerce.common.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안에서만 동작하는 무효화 채널 (단일 인스턴스 / 로컬 개발용)
+ * 다른 노드의 캐시는 각 캐시의 TTL이 지나야 갱신된다.
+ */
+@Slf4j
+@Component
+public class LocalProductCacheInvalidationChannel implements ProductCacheInvalidationChannel {
+
+    private final List<Consumer<Long>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(Long productId) {
+        for (Consumer<Long> listener : listeners) {
+            try {
+                listener.accept(productId);
+            } catch (Exception e) {
+                log.warn("Product cache invalidation failed: productId={}", productId, e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<Long> listener) {
+        listeners.add(listener);
+    }
+}
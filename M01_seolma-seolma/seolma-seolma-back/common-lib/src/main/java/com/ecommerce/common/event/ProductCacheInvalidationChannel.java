@@ -0,0 +1,18 @@
+package com.ecommerce.common.event;
+
+import java.util.function.Consumer;
+
+/**
+ * 상품 캐시 무효화 신호 전달 채널
+ *
+ * 상품이 바뀐 노드가 publish하면 모든 노드(자기 자신 포함)의 구독자가 해당 상품 ID를 받는다.
+ * 구독자: 상품 상세 캐시(ProductDetailCache), 주문용 상품 정보 캐시(ProductInfoCache)
+ * 기본 구현(LocalProductCacheInvalidationChannel)은 같은 JVM 안에서만 전달하며,
+ * 여러 인스턴스로 배포할 때는 Redis pub/sub 등으로 구현한 빈으로 교체한다.
+ */
+public interface ProductCacheInvalidationChannel {
+
+    void publish(Long productId);
+
+    void subscribe(Consumer<Long> listener);
+}
@@ -0,0 +1,23 @@
+package com.ecommerce.common.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 정보 변경 이벤트 (등록, 수정, 삭제, 복구, 이미지 변경)
+ *
+ * 같은 JVM 안의 다른 모듈(주문 등)이 상품 정보를 캐시할 때 무효화 신호로 사용한다.
+ * 트랜잭션 안에서 발행되므로 수신 측은 커밋 이후(@TransactionalEventListener)에 처리한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductChangedEvent {
+
+    private final Long productId;
+    private final ChangeType changeType;
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED, RESTORED,
+        IMAGES_CHANGED      // 이미지 업로드/삭제 (이름, 가격 등 기본 정보는 그대로)
+    }
+}
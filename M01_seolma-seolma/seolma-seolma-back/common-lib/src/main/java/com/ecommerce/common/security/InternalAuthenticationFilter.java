@@ -0,0 +1,52 @@
+package com.ecommerce.common.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 내부 API 호출 인증 필터 (X-Internal-Auth 서명 확인)
+ *
+ * 내부 경로 전용 필터 체인(InternalSecurityConfig)에서만 사용한다.
+ * 서명이 맞으면 SecurityContext 없이 바로 다음으로 넘기고, 아니면 401을 반환한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class InternalAuthenticationFilter extends OncePerRequestFilter {
+    
+    private final InternalRequestSigner internalRequestSigner;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
+                                  FilterChain filterChain) throws ServletException, IOException {
+        
+        if (internalRequestSigner.isEnabled() && !internalRequestSigner.verify(
+                request.getHeader(InternalRequestSigner.HEADER),
+                request.getMethod(),
+                pathAndQuery(request),
+                request.getHeader(InternalRequestSigner.USER_ID_HEADER))) {
+            log.warn("Rejected internal request: method={}, uri={}, remoteAddr={}", 
+                    request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().write(
+                "{\"code\":\"C1001\",\"message\":\"내부 호출 인증에 실패했습니다\",\"data\":null,\"timestamp\":\"" + 
+                java.time.LocalDateTime.now() + "\"}"
+            );
+            return;
+        }
+        
+        filterChain.doFilter(request, response);
+    }
+    
+    private String pathAndQuery(HttpServletRequest request) {
+        String queryString = request.getQueryString();
+        return queryString != null ? request.getRequestURI() + "?" + queryString : request.getRequestURI();
+    }
+}
@@ -0,0 +1,111 @@
+package com.ecommerce.common.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * 내부 서비스 간 호출 서명 (공유 비밀키 HMAC-SHA256)
+ *
+ * X-Internal-Auth: {epoch초}.{서명}
+ * 서명 대상: "메서드\n경로?쿼리\nX-User-Id\nepoch초" (요청 대상과 사용자를 바꿔치기할 수 없도록)
+ *
+ * 키로 초기화한 Mac을 기동 시 한 번 만들고, 요청마다 복제해서 사용한다 (JWT 파싱, 세션 조회 없음).
+ * 허용 시간 차(max-skew-seconds) 안에서는 같은 요청의 재전송을 막지 않는다.
+ */
+@Slf4j
+@Component
+public class InternalRequestSigner {
+
+    public static final String HEADER = "X-Internal-Auth";
+    public static final String USER_ID_HEADER = "X-User-Id";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final boolean enabled;
+    private final long maxSkewSeconds;
+    private final SecretKeySpec key;
+    // 키로 초기화된 원본 (Mac은 스레드 안전하지 않으므로 직접 쓰지 않고 복제)
+    private final Mac prototype;
+
+    public InternalRequestSigner(@Value("${internal.auth.enabled:true}") boolean enabled,
+                                 @Value("${internal.auth.secret:${jwt.secret}}") String secret,
+                                 @Value("${internal.auth.max-skew-seconds:60}") long maxSkewSeconds) {
+        this.enabled = enabled;
+        this.maxSkewSeconds = maxSkewSeconds;
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.prototype = newMac();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * X-Internal-Auth 헤더 값 생성
+     *
+     * @param pathAndQuery 인코딩된 경로 (쿼리 포함, 컨텍스트 경로 포함)
+     */
+    public String sign(String method, String pathAndQuery, String userId) {
+        long timestamp = System.currentTimeMillis() / 1000;
+        return timestamp + "." + signature(method, pathAndQuery, userId, timestamp);
+    }
+
+    /**
+     * 서명 확인 (시간 차 초과, 형식 오류, 서명 불일치는 false)
+     */
+    public boolean verify(String headerValue, String method, String pathAndQuery, String userId) {
+        if (headerValue == null) {
+            return false;
+        }
+        int dot = headerValue.indexOf('.');
+        if (dot <= 0) {
+            return false;
+        }
+        long timestamp;
+        try {
+            timestamp = Long.parseLong(headerValue.substring(0, dot));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (Math.abs(System.currentTimeMillis() / 1000 - timestamp) > maxSkewSeconds) {
+            log.debug("Internal request signature expired: timestamp={}", timestamp);
+            return false;
+        }
+        String expected = signature(method, pathAndQuery, userId, timestamp);
+        // 비교 시간으로 서명을 추측할 수 없도록 고정 시간 비교
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.US_ASCII),
+                headerValue.substring(dot + 1).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private String signature(String method, String pathAndQuery, String userId, long timestamp) {
+        String payload = method + "\n" + pathAndQuery + "\n" + (userId != null ? userId : "") + "\n" + timestamp;
+        byte[] digest = mac().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    private Mac mac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            return newMac();
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize internal request signer", e);
+        }
+    }
+}
@@ -22,6 +22,7 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationIndex tokenRevocationIndex;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
@@ -30,10 +31,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = resolveToken(request);
         
         if (StringUtils.hasText(token)) {
-            if (jwtTokenProvider.validateToken(token)) {
+            // 한 번만 검증하고 결과(클레임 또는 실패 종류)를 그대로 사용
+            TokenVerification verification = jwtTokenProvider.verify(token);
+            // 로그아웃 등으로 폐기된 토큰은 서명이 맞아도 인증하지 않음
+            boolean revoked = verification.isValid() && tokenRevocationIndex.isRevoked(verification.getTokenId());
+            if (verification.isValid() && !revoked) {
                 // 유효한 토큰인 경우 인증 정보 설정
-                String userId = jwtTokenProvider.getSubject(token);
-                String role = jwtTokenProvider.getRole(token);
+                String userId = verification.getSubject();
+                String role = verification.getRole();
                 
                 // SecurityContext에 인증 정보 설정
                 UsernamePasswordAuthenticationToken authentication = 
@@ -48,21 +53,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 // 헤더에 사용자 정보 추가 (다른 서비스에서 사용할 수 있도록)
                 request.setAttribute("X-User-Id", userId);
                 request.setAttribute("X-User-Role", role);
-            } else if (jwtTokenProvider.isTokenExpired(token) && isAuthenticationRequired(request)) {
-                // 만료된 토큰이고 인증이 필요한 경로인 경우 401 반환
+            } else if (!isTokenEndpoint(request)) {
+                // 만료/폐기/위조된 토큰은 경로와 관계없이 401 (클라이언트가 C0002를 받고 토큰을 재발급하도록)
+                // 익명으로 통과시키면 인증이 필요한 경로에서 403이 되어 재발급 없이 실패한다
+                String message = verification.getStatus() == TokenVerification.Status.EXPIRED
+                        ? "JWT 토큰이 만료되었습니다"
+                        : revoked ? "JWT 토큰이 폐기되었습니다" : "JWT 토큰이 유효하지 않습니다";
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 response.setContentType("application/json;charset=UTF-8");
                 response.getWriter().write(
-                    "{\"code\":\"C0002\",\"message\":\"JWT 토큰이 만료되었습니다\",\"data\":null,\"timestamp\":\"" + 
-                    java.time.LocalDateTime.now() + "\"}"
-                );
-                return;
-            } else if (!jwtTokenProvider.validateToken(token) && isAuthenticationRequired(request)) {
-                // 잘못된 토큰이고 인증이 필요한 경로인 경우 401 반환
-                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.setContentType("application/json;charset=UTF-8");
-                response.getWriter().write(
-                    "{\"code\":\"C0002\",\"message\":\"JWT 토큰이 유효하지 않습니다\",\"data\":null,\"timestamp\":\"" + 
+                    "{\"code\":\"C0002\",\"message\":\"" + message + "\",\"data\":null,\"timestamp\":\"" + 
                     java.time.LocalDateTime.now() + "\"}"
                 );
                 return;
@@ -80,12 +80,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
     
-    private boolean isAuthenticationRequired(HttpServletRequest request) {
-        String path = request.getRequestURI();
-        
-        // 인증이 필요한 경로들
-        return path.startsWith("/api/v1/admin/") || 
-               path.startsWith("/api/v1/orders/") || 
-               (path.startsWith("/api/v1/coupons/") && !path.startsWith("/api/v1/coupons/templates"));
+    /**
+     * 로그인/토큰 재발급/로그아웃 경로 (만료된 액세스 토큰이 함께 와도 그대로 처리해야 함)
+     */
+    private boolean isTokenEndpoint(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith("/api/v1/users/auth/") || 
+               path.startsWith("/api/v1/auth/") || 
+               path.startsWith("/users/auth/");
     }
 }
\ No newline at end of file
@@ -7,20 +7,49 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
     
+    // 리프레시 토큰 구분 클레임 (액세스 토큰 자리에 쓸 수 없도록)
+    private static final String TOKEN_TYPE_CLAIM = "typ";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+    
     private final SecretKey secretKey;
     private final long tokenValidityInMilliseconds;
+    private final long refreshTokenValidityInMilliseconds;
+    // 파서는 불변이며 스레드 안전 (요청마다 새로 만들지 않음)
+    private final JwtParser jwtParser;
+    
+    // 최근 검증에 성공한 토큰 (토큰 해시 → 클레임, 만료 시각까지만 사용)
+    private final boolean cacheEnabled;
+    private final int cacheMaxSize;
+    private final ConcurrentMap<String, TokenVerification> verifiedTokens = new ConcurrentHashMap<>();
     
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.token-validity-in-seconds:3600}") long tokenValidityInSeconds) {
+            @Value("${jwt.token-validity-in-seconds:900}") long tokenValidityInSeconds,
+            @Value("${jwt.refresh-token-validity-days:30}") long refreshTokenValidityInDays,
+            @Value("${jwt.verification-cache.enabled:true}") boolean cacheEnabled,
+            @Value("${jwt.verification-cache.max-size:10000}") int cacheMaxSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
         this.tokenValidityInMilliseconds = tokenValidityInSeconds * 1000;
+        this.refreshTokenValidityInMilliseconds = TimeUnit.DAYS.toMillis(refreshTokenValidityInDays);
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.cacheEnabled = cacheEnabled;
+        this.cacheMaxSize = cacheMaxSize;
     }
     
     public String createToken(String subject, String role) {
@@ -28,51 +57,132 @@ public class JwtTokenProvider {
         Date validity = new Date(now.getTime() + tokenValidityInMilliseconds);
         
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(subject)
+                .claim("role", role)
+                .issuedAt(now)
+                .expiration(validity)
+                .signWith(secretKey)
+                .compact();
+    }
+    
+    /**
+     * 리프레시 토큰 (액세스 토큰 재발급 전용, 비밀번호 검증 없이 재발급할 수 있도록 권한도 함께 담는다)
+     */
+    public String createRefreshToken(String subject, String role) {
+        Date now = new Date();
+        Date validity = new Date(now.getTime() + refreshTokenValidityInMilliseconds);
+        
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
                 .claim("role", role)
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
                 .issuedAt(now)
                 .expiration(validity)
                 .signWith(secretKey)
                 .compact();
     }
     
-    public String getSubject(String token) {
-        return getClaims(token).getSubject();
+    public long getRefreshTokenValidityInSeconds() {
+        return TimeUnit.MILLISECONDS.toSeconds(refreshTokenValidityInMilliseconds);
+    }
+    
+    /**
+     * 토큰 검증 (서명/만료 확인과 클레임 추출을 한 번의 파싱으로)
+     * 최근 검증에 성공한 토큰은 다시 파싱하지 않고, 만료 시각이 지나면 EXPIRED를 반환한다.
+     * 리프레시 토큰은 INVALID (폐기 여부는 TokenRevocationIndex에서 확인)
+     */
+    public TokenVerification verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return TokenVerification.invalid();
+        }
+        
+        String key = cacheEnabled ? hash(token) : null;
+        if (key != null) {
+            TokenVerification cached = verifiedTokens.get(key);
+            if (cached != null) {
+                if (cached.getExpiresAt() > System.currentTimeMillis()) {
+                    return cached;
+                }
+                verifiedTokens.remove(key);
+                return TokenVerification.expired();
+            }
+        }
+        
+        TokenVerification verification = parse(token, false);
+        if (!verification.isValid()) {
+            return verification;
+        }
+        
+        // 만료 시각이 없는 토큰은 캐시하지 않음 (실패 결과도 캐시하지 않아 잘못된 토큰으로 캐시를 채울 수 없음)
+        if (key != null && verification.getExpiresAt() != Long.MAX_VALUE) {
+            put(key, verification);
+        }
+        return verification;
     }
     
-    public String getRole(String token) {
-        return getClaims(token).get("role", String.class);
+    /**
+     * 리프레시 토큰 검증 (재발급/로그아웃에서만 사용하므로 캐시하지 않음)
+     */
+    public TokenVerification verifyRefreshToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return TokenVerification.invalid();
+        }
+        return parse(token, true);
     }
     
     public boolean validateToken(String token) {
+        return verify(token).isValid();
+    }
+    
+    public boolean isTokenExpired(String token) {
+        return verify(token).getStatus() == TokenVerification.Status.EXPIRED;
+    }
+    
+    private Claims getClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+    
+    private TokenVerification parse(String token, boolean refreshToken) {
         try {
-            getClaims(token);
-            return true;
+            Claims claims = getClaims(token);
+            if (refreshToken != REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+                log.debug("JWT token type mismatch: refreshToken={}", refreshToken);
+                return TokenVerification.invalid();
+            }
+            Date expiration = claims.getExpiration();
+            return TokenVerification.valid(claims.getSubject(), claims.get("role", String.class), claims.getId(),
+                    expiration != null ? expiration.getTime() : Long.MAX_VALUE);
         } catch (ExpiredJwtException e) {
             log.debug("JWT token expired: {}", e.getMessage());
-            return false;
+            return TokenVerification.expired();
         } catch (JwtException | IllegalArgumentException e) {
             log.debug("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return TokenVerification.invalid();
         }
     }
     
-    public boolean isTokenExpired(String token) {
-        try {
-            getClaims(token);
-            return false;
-        } catch (ExpiredJwtException e) {
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+    private void put(String key, TokenVerification verification) {
+        if (verifiedTokens.size() >= cacheMaxSize) {
+            long now = System.currentTimeMillis();
+            verifiedTokens.values().removeIf(cached -> cached.getExpiresAt() <= now);
+            if (verifiedTokens.size() >= cacheMaxSize) {
+                verifiedTokens.clear();
+            }
         }
+        verifiedTokens.put(key, verification);
     }
     
-    private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * 캐시 키 (토큰 원문을 메모리에 보관하지 않도록 SHA-256 해시 사용)
+     */
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.ecommerce.common.security;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 같은 프로세스 안에서만 폐기를 전달하는 기본 채널 (통합 서비스, 로컬 개발용)
+ */
+public class LocalTokenRevocationChannel implements TokenRevocationChannel {
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String tokenId, long expiresAt) {
+        listeners.forEach(listener -> listener.onRevoked(tokenId, expiresAt));
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.common.security;
+
+/**
+ * 토큰 폐기 전파 채널 (서비스 간 TokenRevocationIndex 동기화)
+ *
+ * 빈으로 등록된 구현이 없으면 같은 프로세스 안에서만 전달하는 LocalTokenRevocationChannel을 사용한다.
+ * 서비스를 나눠 배포할 때는 메시지 브로커 등으로 구현한 빈을 등록한다.
+ * 구현은 다른 노드에서 발행한 폐기를 구독자에게 전달해야 한다 (자기 노드에서 발행한 폐기는 이미 반영되어 있어 전달해도 무방).
+ */
+public interface TokenRevocationChannel {
+
+    /**
+     * 폐기 발행
+     *
+     * @param expiresAt 토큰 만료 시각 (epoch ms, 이후에는 폐기 정보가 필요 없음)
+     */
+    void publish(String tokenId, long expiresAt);
+
+    void subscribe(Listener listener);
+
+    @FunctionalInterface
+    interface Listener {
+
+        void onRevoked(String tokenId, long expiresAt);
+    }
+}
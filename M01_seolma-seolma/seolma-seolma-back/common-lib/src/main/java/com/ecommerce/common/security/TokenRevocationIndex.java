@@ -0,0 +1,96 @@
+package com.ecommerce.common.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 폐기된 토큰 ID(jti) 메모리 색인
+ *
+ * JwtAuthenticationFilter가 요청마다 조회하므로 해시 조회 한 번으로 확인한다.
+ * 토큰 만료 시각까지만 보관하고 (만료된 토큰은 서명 검증에서 이미 거절됨), 크기가 커질 때 만료된 항목을 정리한다.
+ * 폐기는 TokenRevocationChannel로 다른 서비스에 전파된다 (채널 빈이 없으면 같은 프로세스 안에서만).
+ */
+@Slf4j
+@Component
+public class TokenRevocationIndex {
+
+    // 토큰 ID → 만료 시각 (epoch ms)
+    private final ConcurrentMap<String, Long> revoked = new ConcurrentHashMap<>();
+    private final TokenRevocationChannel channel;
+    private final int purgeThreshold;
+    private volatile int nextPurgeSize;
+
+    @Autowired
+    public TokenRevocationIndex(ObjectProvider<TokenRevocationChannel> channelProvider,
+                                @Value("${jwt.revocation.purge-threshold:10000}") int purgeThreshold) {
+        this(channelProvider.getIfAvailable(LocalTokenRevocationChannel::new), purgeThreshold);
+    }
+
+    TokenRevocationIndex(TokenRevocationChannel channel, int purgeThreshold) {
+        this.channel = channel;
+        this.purgeThreshold = purgeThreshold;
+        this.nextPurgeSize = purgeThreshold;
+        this.channel.subscribe(this::add);
+    }
+
+    /**
+     * 폐기된 토큰인지 여부
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        Long expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * 토큰 폐기 (이 노드에 바로 반영하고 채널로 전파)
+     *
+     * @return 이번 호출로 새로 폐기되었으면 true (이미 폐기되었거나 만료된 토큰은 false)
+     */
+    public boolean revoke(String tokenId, long expiresAt) {
+        if (tokenId == null || expiresAt <= System.currentTimeMillis()) {
+            return false;
+        }
+        if (!add(tokenId, expiresAt)) {
+            return false;
+        }
+        try {
+            channel.publish(tokenId, expiresAt);
+        } catch (RuntimeException e) {
+            // 전파에 실패해도 이 노드의 폐기는 유지 (다른 노드는 토큰 만료 시 자연히 거절)
+            log.error("Token revocation publish failed: tokenId={}", tokenId, e);
+        }
+        return true;
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    private boolean add(String tokenId, long expiresAt) {
+        boolean added = revoked.putIfAbsent(tokenId, expiresAt) == null;
+        if (added && revoked.size() >= nextPurgeSize) {
+            purge();
+        }
+        return added;
+    }
+
+    private synchronized void purge() {
+        if (revoked.size() < nextPurgeSize) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        // 만료되지 않은 항목이 많으면 다음 정리 시점을 늦춰 매번 전체를 훑지 않도록
+        nextPurgeSize = Math.max(purgeThreshold, revoked.size() * 2);
+        log.debug("Token revocation index purged: size={}", revoked.size());
+    }
+}
@@ -0,0 +1,46 @@
+package com.ecommerce.common.security;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JWT 검증 결과 (서명/만료 확인과 클레임 추출을 한 번에)
+ *
+ * VALID일 때만 subject, role, tokenId(jti), expiresAt이 채워진다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenVerification {
+
+    public enum Status {
+        VALID,      // 서명과 만료 시각 모두 정상
+        EXPIRED,    // 서명은 맞지만 만료됨
+        INVALID     // 형식 오류, 서명 불일치 등
+    }
+
+    private static final TokenVerification EXPIRED = new TokenVerification(Status.EXPIRED, null, null, null, 0);
+    private static final TokenVerification INVALID = new TokenVerification(Status.INVALID, null, null, null, 0);
+
+    private final Status status;
+    private final String subject;
+    private final String role;
+    private final String tokenId;   // jti (폐기 확인용)
+    private final long expiresAt;   // epoch ms
+
+    public static TokenVerification valid(String subject, String role, String tokenId, long expiresAt) {
+        return new TokenVerification(Status.VALID, subject, role, tokenId, expiresAt);
+    }
+
+    public static TokenVerification expired() {
+        return EXPIRED;
+    }
+
+    public static TokenVerification invalid() {
+        return INVALID;
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+}
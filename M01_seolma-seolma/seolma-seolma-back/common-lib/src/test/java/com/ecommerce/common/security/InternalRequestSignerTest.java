@@ -0,0 +1,41 @@
+package com.ecommerce.common.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InternalRequestSignerTest {
+
+    private static final String SECRET = "myInternalServiceSecretKeyThatShouldBeAtLeast256BitsLong";
+
+    private final InternalRequestSigner internalRequestSigner = new InternalRequestSigner(true, SECRET, 60);
+
+    @Test
+    @DisplayName("내부 호출 서명 - 같은 요청이면 통과, 경로/사용자/키가 다르면 거부")
+    void verify() {
+        // given
+        String signature = internalRequestSigner.sign("PATCH", "/internal/v1/coupons/1/redeem", "user1");
+
+        // when & then
+        assertThat(internalRequestSigner.verify(signature, "PATCH", "/internal/v1/coupons/1/redeem", "user1")).isTrue();
+        assertThat(internalRequestSigner.verify(signature, "PATCH", "/internal/v1/coupons/2/redeem", "user1")).isFalse();
+        assertThat(internalRequestSigner.verify(signature, "PATCH", "/internal/v1/coupons/1/redeem", "user2")).isFalse();
+        assertThat(new InternalRequestSigner(true, SECRET + "-other", 60)
+                .verify(signature, "PATCH", "/internal/v1/coupons/1/redeem", "user1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("내부 호출 서명 - 허용 시간 차를 넘었거나 형식이 잘못되면 거부")
+    void verify_ExpiredOrMalformed() {
+        // given
+        long oldTimestamp = System.currentTimeMillis() / 1000 - 120;
+        String signature = internalRequestSigner.sign("GET", "/api/v1/internal/products/1/summary", null);
+        String oldSignature = oldTimestamp + signature.substring(signature.indexOf('.'));
+
+        // when & then
+        assertThat(internalRequestSigner.verify(oldSignature, "GET", "/api/v1/internal/products/1/summary", null)).isFalse();
+        assertThat(internalRequestSigner.verify(null, "GET", "/api/v1/internal/products/1/summary", null)).isFalse();
+        assertThat(internalRequestSigner.verify("abc", "GET", "/api/v1/internal/products/1/summary", null)).isFalse();
+    }
+}
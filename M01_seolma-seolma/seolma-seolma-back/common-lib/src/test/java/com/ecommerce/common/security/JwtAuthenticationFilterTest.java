@@ -0,0 +1,72 @@
+package com.ecommerce.common.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "mySecretKeyForJWTTokenGenerationThatShouldBeAtLeast256BitsLong";
+
+    private final JwtTokenProvider expiringProvider = new JwtTokenProvider(SECRET, 0, 30, true, 10);
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 3600, 30, true, 10);
+    private final TokenRevocationIndex tokenRevocationIndex = new TokenRevocationIndex(new LocalTokenRevocationChannel(), 100);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, tokenRevocationIndex);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰으로 주문 생성(POST /api/v1/orders) 시 401 C0002 (토큰 재발급 유도)")
+    void expiredToken_OrderCreate_Unauthorized() throws Exception {
+        // given
+        MockHttpServletRequest request = request("POST", "/api/v1/orders", expiringProvider.createToken("user1", "ROLE_USER"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentAsString()).contains("\"code\":\"C0002\"");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰은 401, 토큰 재발급 경로는 만료된 토큰이 있어도 통과")
+    void revokedToken_Unauthorized_TokenEndpointPasses() throws Exception {
+        // given
+        String token = jwtTokenProvider.createToken("user1", "ROLE_USER");
+        TokenVerification verification = jwtTokenProvider.verify(token);
+        tokenRevocationIndex.revoke(verification.getTokenId(), verification.getExpiresAt());
+        MockHttpServletResponse revokedResponse = new MockHttpServletResponse();
+        MockHttpServletResponse refreshResponse = new MockHttpServletResponse();
+        MockFilterChain refreshChain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request("GET", "/api/v1/users/me", token), revokedResponse, new MockFilterChain());
+        filter.doFilter(request("POST", "/api/v1/users/auth/refresh", expiringProvider.createToken("user1", "ROLE_USER")),
+                refreshResponse, refreshChain);
+
+        // then
+        assertThat(revokedResponse.getStatus()).isEqualTo(401);
+        assertThat(revokedResponse.getContentAsString()).contains("\"code\":\"C0002\"");
+        assertThat(refreshChain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private MockHttpServletRequest request(String method, String uri, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
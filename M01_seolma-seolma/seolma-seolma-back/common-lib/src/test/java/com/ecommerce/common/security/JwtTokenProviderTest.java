@@ -0,0 +1,63 @@
+package com.ecommerce.common.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "mySecretKeyForJWTTokenGenerationThatShouldBeAtLeast256BitsLong";
+
+    @Test
+    @DisplayName("토큰 검증 - 유효한 토큰은 클레임 반환, 재검증은 캐시 사용")
+    void verify_Valid() {
+        // given
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 3600, 30, true, 10);
+        String token = jwtTokenProvider.createToken("user1", "ROLE_USER");
+
+        // when
+        TokenVerification first = jwtTokenProvider.verify(token);
+        TokenVerification second = jwtTokenProvider.verify(token);
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(TokenVerification.Status.VALID);
+        assertThat(first.getSubject()).isEqualTo("user1");
+        assertThat(first.getRole()).isEqualTo("ROLE_USER");
+        assertThat(first.getExpiresAt()).isGreaterThan(System.currentTimeMillis());
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 만료된 토큰과 잘못된 토큰을 구분")
+    void verify_ExpiredAndInvalid() {
+        // given
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 0, 30, true, 10);
+        String expiredToken = jwtTokenProvider.createToken("user1", "ROLE_USER");
+        String otherKeyToken = new JwtTokenProvider(SECRET + "-other", 3600, 30, true, 10).createToken("user1", "ROLE_USER");
+
+        // when & then
+        assertThat(jwtTokenProvider.verify(expiredToken).getStatus()).isEqualTo(TokenVerification.Status.EXPIRED);
+        assertThat(jwtTokenProvider.verify(otherKeyToken).getStatus()).isEqualTo(TokenVerification.Status.INVALID);
+        assertThat(jwtTokenProvider.verify("not-a-jwt").getStatus()).isEqualTo(TokenVerification.Status.INVALID);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰은 액세스 토큰으로 사용할 수 없고, 액세스 토큰은 재발급에 사용할 수 없음")
+    void verify_TokenTypeSeparated() {
+        // given
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 3600, 30, true, 10);
+        String accessToken = jwtTokenProvider.createToken("user1", "ROLE_USER");
+        String refreshToken = jwtTokenProvider.createRefreshToken("user1", "ROLE_USER");
+
+        // when
+        TokenVerification refresh = jwtTokenProvider.verifyRefreshToken(refreshToken);
+
+        // then
+        assertThat(refresh.isValid()).isTrue();
+        assertThat(refresh.getRole()).isEqualTo("ROLE_USER");
+        assertThat(refresh.getTokenId()).isNotBlank();
+        assertThat(jwtTokenProvider.verify(refreshToken).getStatus()).isEqualTo(TokenVerification.Status.INVALID);
+        assertThat(jwtTokenProvider.verifyRefreshToken(accessToken).getStatus()).isEqualTo(TokenVerification.Status.INVALID);
+    }
+}
@@ -0,0 +1,51 @@
+package com.ecommerce.common.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TokenRevocationIndexTest {
+
+    @Test
+    @DisplayName("폐기는 같은 채널을 구독한 다른 색인에도 전파")
+    void revoke_PropagatesThroughChannel() {
+        // given
+        LocalTokenRevocationChannel channel = new LocalTokenRevocationChannel();
+        TokenRevocationIndex issuer = new TokenRevocationIndex(channel, 100);
+        TokenRevocationIndex other = new TokenRevocationIndex(channel, 100);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        // when
+        boolean first = issuer.revoke("jti-1", expiresAt);
+        boolean second = issuer.revoke("jti-1", expiresAt);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(issuer.isRevoked("jti-1")).isTrue();
+        assertThat(other.isRevoked("jti-1")).isTrue();
+        assertThat(other.isRevoked("jti-2")).isFalse();
+        assertThat(other.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 보관하지 않고, 크기가 기준을 넘으면 만료 항목 정리")
+    void revoke_PurgesExpired() throws InterruptedException {
+        // given
+        TokenRevocationIndex index = new TokenRevocationIndex(new LocalTokenRevocationChannel(), 3);
+        long now = System.currentTimeMillis();
+        assertThat(index.revoke("expired", now - 1)).isFalse();
+        index.revoke("short-1", now + 20);
+        index.revoke("short-2", now + 20);
+        Thread.sleep(50);
+
+        // when
+        index.revoke("long", now + 60_000);
+
+        // then
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.isRevoked("short-1")).isFalse();
+        assertThat(index.isRevoked("long")).isTrue();
+    }
+}
@@ -1,6 +1,7 @@
 package com.ecommerce.coupon.config;
 
 import com.ecommerce.common.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -28,7 +29,7 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/internal/**").permitAll()  // 내부 서비스 간 통신은 인증 없이 허용
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()  // 비동기 응답(티켓 롱폴링) 재디스패치는 최초 요청에서 인가됨
                 .requestMatchers("/health", "/actuator/**").permitAll()  // 헬스체크는 인증 없이 허용
                 .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")  // 관리자 API는 ADMIN 권한 필요 (먼저 체크)
                 .requestMatchers("/api/v1/coupons/templates/**").permitAll()  // 쿠폰 템플릿 조회는 인증 없이 허용
@@ -3,8 +3,10 @@ package com.ecommerce.coupon.controller;
 import com.ecommerce.common.response.ApiResponse;
 import com.ecommerce.common.security.SecurityUtils;
 import com.ecommerce.coupon.dto.CouponIssueRequest;
+import com.ecommerce.coupon.dto.CouponIssueTicketResponse;
 import com.ecommerce.coupon.dto.CouponResponse;
 import com.ecommerce.coupon.dto.CouponTemplateResponse;
+import com.ecommerce.coupon.service.CouponIssueQueue;
 import com.ecommerce.coupon.service.CouponService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Tag(name = "쿠폰", description = "쿠폰 발급 및 관리 API")
 @RestController
@@ -22,6 +25,7 @@ import java.util.List;
 public class CouponController {
     
     private final CouponService couponService;
+    private final CouponIssueQueue couponIssueQueue;
     
     @Operation(summary = "발급 가능한 쿠폰 목록 조회", description = "현재 발급 가능한 쿠폰 템플릿 목록을 조회합니다")
     @GetMapping("/templates/available")
@@ -45,6 +49,26 @@ public class CouponController {
         return ApiResponse.success(response);
     }
     
+    @Operation(summary = "쿠폰 발급 요청 (대기열)", description = "발급 요청을 대기열에 등록하고 티켓을 반환합니다. 결과는 티켓 조회로 확인합니다")
+    @PostMapping("/issue/queue")
+    public ApiResponse<CouponIssueTicketResponse> enqueueCouponIssue(@Valid @RequestBody CouponIssueRequest request) {
+        String userId = SecurityUtils.getCurrentUserId();
+        CouponIssueTicketResponse response = CouponIssueTicketResponse.from(
+                couponIssueQueue.enqueue(request.getTemplateId(), userId));
+        return ApiResponse.success(response);
+    }
+    
+    @Operation(summary = "쿠폰 발급 티켓 조회", description = "대기열 발급 결과를 조회합니다. waitMs를 지정하면 결과가 나올 때까지 최대 해당 시간 동안 대기합니다")
+    @GetMapping("/issue/tickets/{ticketId}")
+    public CompletableFuture<ApiResponse<CouponIssueTicketResponse>> getCouponIssueTicket(
+            @Parameter(description = "티켓 ID", required = true) @PathVariable String ticketId,
+            @Parameter(description = "최대 대기 시간(ms)") @RequestParam(defaultValue = "0") long waitMs) {
+        
+        String userId = SecurityUtils.getCurrentUserId();
+        return couponIssueQueue.awaitTicket(ticketId, userId, waitMs)
+                .thenApply(ticket -> ApiResponse.success(CouponIssueTicketResponse.from(ticket)));
+    }
+    
     @Operation(summary = "내 쿠폰 목록 조회", description = "사용자의 모든 쿠폰 목록을 조회합니다")
     @GetMapping("/my")
     public ApiResponse<List<CouponResponse>> getMyCoupons() {
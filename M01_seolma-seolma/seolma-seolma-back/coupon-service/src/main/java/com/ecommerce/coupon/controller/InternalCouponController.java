@@ -1,9 +1,12 @@
 package com.ecommerce.coupon.controller;
 
 import com.ecommerce.common.response.ApiResponse;
+import com.ecommerce.coupon.dto.CouponBulkUseRequest;
+import com.ecommerce.coupon.dto.CouponRedeemResponse;
 import com.ecommerce.coupon.dto.CouponResponse;
 import com.ecommerce.coupon.service.CouponService;
 import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -28,6 +31,45 @@ public class InternalCouponController {
         return ApiResponse.success();
     }
     
+    /**
+     * 내부 서비스 간 통신용 - 쿠폰 사용 + 할인 정보 조회 API
+     * Order Service에서 주문 생성 시 호출 (사용 처리와 할인 정보를 한 번에 반환)
+     */
+    @PatchMapping("/{couponId}/redeem")
+    public ApiResponse<CouponRedeemResponse> redeemCoupon(
+            @PathVariable Long couponId,
+            @RequestHeader("X-User-Id") String userId) {
+        
+        CouponRedeemResponse response = couponService.redeemCoupon(couponId, userId);
+        return ApiResponse.success(response);
+    }
+    
+    /**
+     * 내부 서비스 간 통신용 - 쿠폰 사용 취소 API
+     * Order Service에서 쿠폰 사용 후 주문 생성에 실패했을 때 호출
+     */
+    @PatchMapping("/{couponId}/release")
+    public ApiResponse<Void> releaseCoupon(
+            @PathVariable Long couponId,
+            @RequestHeader("X-User-Id") String userId) {
+        
+        couponService.releaseCoupon(couponId, userId);
+        return ApiResponse.success();
+    }
+    
+    /**
+     * 내부 서비스 간 통신용 - 쿠폰 일괄 사용 API
+     * Order Service에서 여러 쿠폰을 한 번에 사용할 때 호출 (하나라도 실패하면 전체 취소)
+     */
+    @PatchMapping("/use")
+    public ApiResponse<Void> useCoupons(
+            @Valid @RequestBody CouponBulkUseRequest request,
+            @RequestHeader("X-User-Id") String userId) {
+        
+        couponService.useCoupons(request.getCouponIds(), userId);
+        return ApiResponse.success();
+    }
+    
     /**
      * 내부 서비스 간 통신용 - 쿠폰 정보 조회 API
      * Order Service에서 호출
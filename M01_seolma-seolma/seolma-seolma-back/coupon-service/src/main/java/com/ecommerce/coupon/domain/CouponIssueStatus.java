@@ -0,0 +1,23 @@
+package com.ecommerce.coupon.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대기열 발급 티켓 상태
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CouponIssueStatus {
+    WAITING("발급 대기중"),
+    ISSUED("발급 완료"),
+    SOLD_OUT("수량 소진"),
+    ALREADY_ISSUED("이미 발급받은 쿠폰"),
+    FAILED("발급 실패");
+    
+    private final String displayName;
+    
+    public boolean isCompleted() {
+        return this != WAITING;
+    }
+}
@@ -44,6 +44,12 @@ public class CouponTemplate {
     @Column(name = "is_deleted", nullable = false)
     private Boolean isDeleted = false;  // 삭제 여부
     
+    // 발급된 수량 카운터 (COUNT 조회 대체)
+    // 엔티티 변경 감지로 덮어쓰지 않도록 updatable = false, 증가는 CouponTemplateRepository의 조건부 UPDATE로만 수행
+    // NULL이면 아직 coupons 테이블에서 집계되지 않은 기존 템플릿
+    @Column(name = "issued_count", updatable = false)
+    private Long issuedCount = 0L;
+    
     @Builder
     public CouponTemplate(String title, DiscountType discountType, Integer discountValue,
                          LocalDateTime startedAt, LocalDateTime finishedAt, 
@@ -56,6 +62,7 @@ public class CouponTemplate {
         this.isLimited = isLimited != null ? isLimited : false;
         this.totalQuantity = totalQuantity;
         this.isDeleted = false;
+        this.issuedCount = 0L;
     }
     
     public void updateInfo(String title, DiscountType discountType, Integer discountValue,
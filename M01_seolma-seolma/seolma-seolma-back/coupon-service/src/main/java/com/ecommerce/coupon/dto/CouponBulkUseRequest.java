@@ -0,0 +1,22 @@
+package com.ecommerce.coupon.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class CouponBulkUseRequest {
+    
+    @NotEmpty(message = "쿠폰 ID 목록은 필수입니다")
+    @Size(max = 100, message = "한 번에 최대 100개까지 사용할 수 있습니다")
+    private List<@NotNull Long> couponIds;
+    
+    public CouponBulkUseRequest(List<Long> couponIds) {
+        this.couponIds = couponIds;
+    }
+}
@@ -0,0 +1,44 @@
+package com.ecommerce.coupon.dto;
+
+import com.ecommerce.coupon.domain.CouponIssueStatus;
+import com.ecommerce.coupon.service.CouponIssueTicket;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@RequiredArgsConstructor
+@Schema(description = "쿠폰 발급 티켓 응답")
+public class CouponIssueTicketResponse {
+    
+    @Schema(description = "티켓 ID", example = "3f0c6a52-8f3e-4a59-9d57-2f7c1b0f4e21")
+    private final String ticketId;
+    
+    @Schema(description = "쿠폰 템플릿 ID", example = "1")
+    private final Long templateId;
+    
+    @Schema(description = "발급 상태")
+    private final CouponIssueStatus status;
+    
+    @Schema(description = "발급 상태 표시명", example = "발급 대기중")
+    private final String statusDisplayName;
+    
+    @Schema(description = "요청 일시")
+    private final LocalDateTime requestedAt;
+    
+    @Schema(description = "발급된 쿠폰 (발급 완료 시)")
+    private final CouponResponse coupon;
+    
+    public static CouponIssueTicketResponse from(CouponIssueTicket ticket) {
+        return new CouponIssueTicketResponse(
+                ticket.getId(),
+                ticket.getTemplateId(),
+                ticket.getStatus(),
+                ticket.getStatus().getDisplayName(),
+                ticket.getRequestedAt(),
+                ticket.getCoupon() != null ? CouponResponse.from(ticket.getCoupon()) : null
+        );
+    }
+}
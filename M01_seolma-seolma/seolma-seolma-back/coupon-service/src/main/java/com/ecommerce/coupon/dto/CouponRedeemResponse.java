@@ -0,0 +1,34 @@
+package com.ecommerce.coupon.dto;
+
+import com.ecommerce.coupon.domain.Coupon;
+import com.ecommerce.coupon.domain.CouponTemplate;
+import com.ecommerce.coupon.domain.DiscountType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 사용 처리 결과 (내부 서비스용)
+ * 주문 금액 계산에 필요한 할인 정보를 함께 반환한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CouponRedeemResponse {
+    
+    private final Long couponId;
+    private final Long templateId;
+    private final DiscountType discountType;
+    private final Integer discountValue;
+    private final LocalDateTime usedAt;
+    
+    public static CouponRedeemResponse of(Coupon coupon, CouponTemplate template) {
+        return new CouponRedeemResponse(
+                coupon.getId(),
+                coupon.getTemplateId(),
+                template.getDiscountType(),
+                template.getDiscountValue(),
+                coupon.getUsedAt()
+        );
+    }
+}
@@ -20,7 +20,10 @@ public enum CouponResultCode implements ResultCode {
     UNAUTHORIZED_COUPON_ACCESS("CP1006", "쿠폰에 대한 권한이 없습니다"),
     COUPON_NOT_USABLE("CP1007", "사용할 수 없는 쿠폰입니다"),
     TEMPLATE_HAS_ISSUED_COUPONS("CP1008", "발급된 쿠폰이 있어 삭제할 수 없습니다"),
-    COUPON_SOLD_OUT("CP1009", "쿠폰이 모두 소진되었습니다");
+    COUPON_SOLD_OUT("CP1009", "쿠폰이 모두 소진되었습니다"),
+    ISSUE_TICKET_NOT_FOUND("CP1010", "쿠폰 발급 티켓을 찾을 수 없습니다"),
+    ISSUE_QUEUE_FULL("CP1011", "발급 요청이 많아 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요"),
+    ISSUE_QUEUE_DISABLED("CP1012", "대기열 발급이 활성화되어 있지 않습니다");
 
     private final String code;
     private final String message;
@@ -4,9 +4,12 @@ import com.ecommerce.coupon.domain.Coupon;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,13 +24,50 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
     // 특정 템플릿으로 사용자가 이미 발급받았는지 확인
     boolean existsByTemplateIdAndUserId(Long templateId, String userId);
     
+    // 배치 발급 시 이미 발급받은 사용자 확인
+    @Query("SELECT c.userId FROM Coupon c WHERE c.templateId = :templateId AND c.userId IN :userIds")
+    List<String> findUserIdsByTemplateIdAndUserIdIn(@Param("templateId") Long templateId,
+                                                    @Param("userIds") Collection<String> userIds);
+    
+    // 배치 발급된 쿠폰 조회
+    List<Coupon> findByTemplateIdAndUserIdIn(Long templateId, Collection<String> userIds);
+    
     // 사용자의 특정 쿠폰 조회
     Optional<Coupon> findByIdAndUserId(Long couponId, String userId);
     
+    // 쿠폰 사용 처리 (미사용 쿠폰일 때만 성공, 영향받은 행 수로 성공 여부 판단)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Coupon c SET c.isUsed = true, c.usedAt = :usedAt " +
+           "WHERE c.id = :couponId AND c.userId = :userId AND c.isUsed = false")
+    int markUsed(@Param("couponId") Long couponId, 
+                 @Param("userId") String userId, 
+                 @Param("usedAt") LocalDateTime usedAt);
+    
+    // 여러 쿠폰 일괄 사용 처리
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Coupon c SET c.isUsed = true, c.usedAt = :usedAt " +
+           "WHERE c.id IN :couponIds AND c.userId = :userId AND c.isUsed = false")
+    int markAllUsed(@Param("couponIds") Collection<Long> couponIds, 
+                    @Param("userId") String userId, 
+                    @Param("usedAt") LocalDateTime usedAt);
+    
+    // 쿠폰 사용 취소 (사용된 쿠폰일 때만 성공)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Coupon c SET c.isUsed = false, c.usedAt = null " +
+           "WHERE c.id = :couponId AND c.userId = :userId AND c.isUsed = true")
+    int markUnused(@Param("couponId") Long couponId, @Param("userId") String userId);
+    
+    // 사용자의 쿠폰 일괄 조회
+    List<Coupon> findByIdInAndUserId(Collection<Long> couponIds, String userId);
+    
     // 템플릿별 발급 수량 조회
     @Query("SELECT COUNT(c) FROM Coupon c WHERE c.templateId = :templateId")
     Long countByTemplateId(@Param("templateId") Long templateId);
     
+    // 여러 템플릿의 발급 수량을 한 번에 조회 (templateId, count)
+    @Query("SELECT c.templateId, COUNT(c) FROM Coupon c WHERE c.templateId IN :templateIds GROUP BY c.templateId")
+    List<Object[]> countGroupByTemplateIdIn(@Param("templateIds") Collection<Long> templateIds);
+    
     // 템플릿별 사용된 쿠폰 수량 조회
     @Query("SELECT COUNT(c) FROM Coupon c WHERE c.templateId = :templateId AND c.isUsed = true")
     Long countByTemplateIdAndIsUsedTrue(@Param("templateId") Long templateId);
@@ -1,8 +1,12 @@
 package com.ecommerce.coupon.repository;
 
 import com.ecommerce.coupon.domain.CouponTemplate;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -23,4 +27,37 @@ public interface CouponTemplateRepository extends JpaRepository<CouponTemplate,
     // 만료되지 않은 쿠폰 템플릿 조회 (삭제되지 않은 것만)
     @Query("SELECT ct FROM CouponTemplate ct WHERE ct.isDeleted = false AND ct.finishedAt > :now ORDER BY ct.startedAt ASC")
     List<CouponTemplate> findActiveTemplates(LocalDateTime now);
+    
+    // 발급 수량 원자적 증가 (수량 제한이 있으면 남은 수량이 있을 때만 성공, 노드 간 초과 발급 방지)
+    // issued_count는 엔티티에서 updatable = false 이므로 네이티브 쿼리로 직접 갱신
+    @Modifying
+    @Query(value = "UPDATE coupon_templates SET issued_count = issued_count + 1 " +
+                   "WHERE template_id = :templateId AND issued_count IS NOT NULL " +
+                   "AND (is_limited = false OR total_quantity IS NULL OR issued_count < total_quantity)",
+           nativeQuery = true)
+    int increaseIssuedCount(@Param("templateId") Long templateId);
+    
+    // 카운터가 비어있는 기존 템플릿의 발급 수량을 coupons 테이블에서 한 번 집계해 채움
+    @Modifying
+    @Query(value = "UPDATE coupon_templates SET issued_count = " +
+                   "(SELECT COUNT(*) FROM coupons c WHERE c.template_id = :templateId) " +
+                   "WHERE template_id = :templateId AND issued_count IS NULL",
+           nativeQuery = true)
+    int initializeIssuedCount(@Param("templateId") Long templateId);
+    
+    // 현재 발급 수량 조회 (영속성 컨텍스트가 아닌 DB 값)
+    @Query("SELECT ct.issuedCount FROM CouponTemplate ct WHERE ct.id = :templateId")
+    Long findIssuedCountById(@Param("templateId") Long templateId);
+    
+    // 발급 수량 일괄 증가 (findByIdForUpdate로 행 잠금을 잡은 뒤 남은 수량 이내로만 호출)
+    @Modifying
+    @Query(value = "UPDATE coupon_templates SET issued_count = issued_count + :count " +
+                   "WHERE template_id = :templateId AND issued_count IS NOT NULL",
+           nativeQuery = true)
+    int increaseIssuedCountBy(@Param("templateId") Long templateId, @Param("count") long count);
+    
+    // 배치 발급용 템플릿 행 잠금 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ct FROM CouponTemplate ct WHERE ct.id = :templateId")
+    Optional<CouponTemplate> findByIdForUpdate(@Param("templateId") Long templateId);
 }
\ No newline at end of file
@@ -18,7 +18,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -28,6 +27,11 @@ public class AdminCouponService {
     
     private final CouponTemplateRepository couponTemplateRepository;
     private final CouponRepository couponRepository;
+    private final CouponIssueEngine couponIssueEngine;
+    private final CouponIssueQueue couponIssueQueue;
+    private final CouponIssuedCountReader couponIssuedCountReader;
+    private final CouponTemplateListCache couponTemplateListCache;
+    private final CouponTemplateCache couponTemplateCache;
     
     @Transactional
     public CouponTemplateResponse createCouponTemplate(CouponTemplateCreateRequest request, String adminId) {
@@ -42,6 +46,7 @@ public class AdminCouponService {
                 .build();
         
         CouponTemplate savedTemplate = couponTemplateRepository.save(template);
+        couponTemplateListCache.invalidate();
         
         log.info("Coupon template created: templateId={}, title={}, isLimited={}, totalQuantity={}, adminId={}", 
                 savedTemplate.getId(), savedTemplate.getTitle(), savedTemplate.getIsLimited(), 
@@ -51,21 +56,14 @@ public class AdminCouponService {
     }
     
     public List<CouponTemplateResponse> getAllCouponTemplates() {
-        return couponTemplateRepository.findByIsDeletedFalse()
-                .stream()
-                .map(template -> {
-                    Long issuedCount = couponRepository.countByTemplateId(template.getId());
-                    return CouponTemplateResponse.fromWithIssuedCount(template, issuedCount);
-                })
-                .collect(Collectors.toList());
+        return couponIssuedCountReader.toResponses(couponTemplateRepository.findByIsDeletedFalse());
     }
     
     public CouponTemplateResponse getCouponTemplate(Long templateId) {
         CouponTemplate template = couponTemplateRepository.findByIdAndIsDeletedFalse(templateId)
                 .orElseThrow(() -> new BusinessException(CouponResultCode.TEMPLATE_NOT_FOUND));
         
-        Long issuedCount = couponRepository.countByTemplateId(templateId);
-        return CouponTemplateResponse.fromWithIssuedCount(template, issuedCount);
+        return couponIssuedCountReader.toResponses(List.of(template)).get(0);
     }
     
     @Transactional
@@ -76,6 +74,10 @@ public class AdminCouponService {
         template.updateInfo(request.getTitle(), request.getDiscountType(), request.getDiscountValue(),
                           request.getStartedAt(), request.getFinishedAt(), 
                           request.getIsLimited(), request.getTotalQuantity());
+        couponIssueEngine.evict(templateId);
+        couponIssueQueue.evict(templateId);
+        couponTemplateListCache.invalidate();
+        couponTemplateCache.evict(templateId);
         
         log.info("Coupon template updated: templateId={}, title={}, isLimited={}, totalQuantity={}, adminId={}", 
                 templateId, request.getTitle(), request.getIsLimited(), request.getTotalQuantity(), adminId);
@@ -96,6 +98,10 @@ public class AdminCouponService {
         
         // 소프트 삭제
         template.delete();
+        couponIssueEngine.evict(templateId);
+        couponIssueQueue.evict(templateId);
+        couponTemplateListCache.invalidate();
+        couponTemplateCache.evict(templateId);
         
         log.info("Coupon template soft deleted: templateId={}, adminId={}", templateId, adminId);
     }
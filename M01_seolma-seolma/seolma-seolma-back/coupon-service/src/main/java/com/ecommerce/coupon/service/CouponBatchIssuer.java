@@ -0,0 +1,109 @@
+package com.ecommerce.coupon.service;
+
+import com.ecommerce.coupon.domain.Coupon;
+import com.ecommerce.coupon.domain.CouponIssueStatus;
+import com.ecommerce.coupon.domain.CouponTemplate;
+import com.ecommerce.coupon.repository.CouponRepository;
+import com.ecommerce.coupon.repository.CouponTemplateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대기열 티켓 배치 발급
+ *
+ * 템플릿 행을 한 번 잠그고 남은 수량만큼 JDBC 배치 INSERT 후 issued_count를 한 번에 증가시킨다.
+ * 티켓별 결과는 assign으로만 기록하며, 커밋 이후 CouponIssueQueue에서 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponBatchIssuer {
+
+    private static final String INSERT_COUPON_SQL =
+            "INSERT INTO coupons (template_id, user_id, is_used, issued_at) VALUES (?, ?, false, ?)";
+
+    private final CouponTemplateRepository couponTemplateRepository;
+    private final CouponRepository couponRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 실제로 발급된 쿠폰 수
+     */
+    @Transactional
+    public int issue(Long templateId, List<CouponIssueTicket> tickets) {
+        CouponTemplate template = couponTemplateRepository.findByIdForUpdate(templateId).orElse(null);
+        if (template == null || Boolean.TRUE.equals(template.getIsDeleted()) || !template.isValidPeriod()) {
+            tickets.forEach(ticket -> ticket.assign(CouponIssueStatus.FAILED, null));
+            return 0;
+        }
+
+        // 카운터가 없는 기존 템플릿이면 먼저 집계
+        Long issuedCount = template.getIssuedCount();
+        if (issuedCount == null) {
+            couponTemplateRepository.initializeIssuedCount(templateId);
+            issuedCount = couponTemplateRepository.findIssuedCountById(templateId);
+        }
+
+        // 1. 중복 발급 제외 (DB에 이미 있는 사용자 + 같은 배치 안의 중복)
+        Set<String> issuedUserIds = new HashSet<>(couponRepository.findUserIdsByTemplateIdAndUserIdIn(
+                templateId, tickets.stream().map(CouponIssueTicket::getUserId).collect(Collectors.toSet())));
+
+        long remaining = isLimited(template)
+                ? Math.max(0L, template.getTotalQuantity() - issuedCount)
+                : Long.MAX_VALUE;
+
+        // 2. 남은 수량만큼 발급 대상 선정 (요청 순서대로)
+        List<CouponIssueTicket> targets = new ArrayList<>();
+        for (CouponIssueTicket ticket : tickets) {
+            if (!issuedUserIds.add(ticket.getUserId())) {
+                ticket.assign(CouponIssueStatus.ALREADY_ISSUED, null);
+            } else if (targets.size() >= remaining) {
+                ticket.assign(CouponIssueStatus.SOLD_OUT, null);
+            } else {
+                targets.add(ticket);
+            }
+        }
+
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        // 3. JDBC 배치 INSERT + 카운터 일괄 증가
+        Timestamp issuedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_COUPON_SQL, targets, targets.size(), (ps, ticket) -> {
+            ps.setLong(1, templateId);
+            ps.setString(2, ticket.getUserId());
+            ps.setTimestamp(3, issuedAt);
+        });
+        couponTemplateRepository.increaseIssuedCountBy(templateId, targets.size());
+
+        // 4. 발급된 쿠폰 조회 후 티켓에 기록
+        Map<String, Coupon> couponsByUserId = couponRepository.findByTemplateIdAndUserIdIn(templateId,
+                        targets.stream().map(CouponIssueTicket::getUserId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Coupon::getUserId, Function.identity(), (a, b) -> a));
+        targets.forEach(ticket -> ticket.assign(CouponIssueStatus.ISSUED, couponsByUserId.get(ticket.getUserId())));
+
+        log.info("Coupon batch issued: templateId={}, requested={}, issued={}, currentCount={}/{}",
+                templateId, tickets.size(), targets.size(), issuedCount + targets.size(), template.getTotalQuantity());
+
+        return targets.size();
+    }
+
+    private boolean isLimited(CouponTemplate template) {
+        return Boolean.TRUE.equals(template.getIsLimited()) && template.getTotalQuantity() != null;
+    }
+}
@@ -0,0 +1,218 @@
+package com.ecommerce.coupon.service;
+
+import com.ecommerce.common.exception.BusinessException;
+import com.ecommerce.coupon.domain.Coupon;
+import com.ecommerce.coupon.domain.CouponTemplate;
+import com.ecommerce.coupon.exception.CouponResultCode;
+import com.ecommerce.coupon.repository.CouponRepository;
+import com.ecommerce.coupon.repository.CouponTemplateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 선착순 쿠폰 발급 엔진
+ *
+ * 1. 템플릿별 로컬 잔여 수량 카운터(AtomicLong)로 잔여 수량을 넘는 요청은 DB에 가기 전에 거절
+ * 2. coupon_templates.issued_count 조건부 UPDATE로 노드 간 초과 발급 방지 (행 단위 잠금)
+ * 3. 트랜잭션이 롤백되면 로컬 카운터를 되돌림 (DB 카운터는 트랜잭션과 함께 롤백)
+ *
+ * 템플릿마다 별도의 카운터를 사용하므로 서로 다른 템플릿의 발급은 경합하지 않는다.
+ */
+@Slf4j
+@Component
+public class CouponIssueEngine {
+
+    private final CouponTemplateRepository couponTemplateRepository;
+    private final CouponRepository couponRepository;
+    private final long stockResyncIntervalMillis;
+
+    private final ConcurrentMap<Long, LocalStock> stocks = new ConcurrentHashMap<>();
+
+    public CouponIssueEngine(CouponTemplateRepository couponTemplateRepository,
+                             CouponRepository couponRepository,
+                             @Value("${coupon.issue.stock-resync-interval-ms:1000}") long stockResyncIntervalMillis) {
+        this.couponTemplateRepository = couponTemplateRepository;
+        this.couponRepository = couponRepository;
+        this.stockResyncIntervalMillis = stockResyncIntervalMillis;
+    }
+
+    /**
+     * 발급 수량을 확보하고 쿠폰을 저장한다. 호출하는 쪽의 트랜잭션 안에서 실행되어야 한다.
+     *
+     * @throws BusinessException 매진(COUPON_SOLD_OUT) 또는 발급 불가(TEMPLATE_NOT_AVAILABLE)
+     */
+    public Coupon issue(CouponTemplate template, String userId) {
+        Long templateId = template.getId();
+        LocalStock stock = resolveStock(template);
+
+        // 1. 로컬 잔여 수량 선점 (매진 이후 요청은 DB에 접근하지 않음)
+        if (stock != null && !stock.tryAcquire()) {
+            throw new BusinessException(CouponResultCode.COUPON_SOLD_OUT);
+        }
+
+        // 실패 시 로컬 수량을 반환해야 하는지 여부
+        boolean holding = stock != null;
+        try {
+            // 2. DB 카운터 조건부 증가
+            if (!reserveInDatabase(template)) {
+                if (stock != null) {
+                    stock.markSoldOut();
+                    holding = false;
+                }
+                throw rejection(template);
+            }
+
+            // 3. 쿠폰 저장
+            Coupon savedCoupon = couponRepository.save(Coupon.builder()
+                    .templateId(templateId)
+                    .userId(userId)
+                    .build());
+
+            // 이후의 롤백은 트랜잭션 동기화에서 반환 (DB 카운터는 트랜잭션과 함께 롤백됨)
+            if (stock != null) {
+                releaseOnRollback(stock);
+                holding = false;
+            }
+            return savedCoupon;
+        } finally {
+            if (holding) {
+                stock.release();
+            }
+        }
+    }
+
+    /**
+     * 템플릿 정보가 변경되었을 때 로컬 카운터 제거 (다음 발급 시 DB 값으로 재구성)
+     */
+    public void evict(Long templateId) {
+        stocks.remove(templateId);
+    }
+
+    /**
+     * 로컬 잔여 수량 조회 (모니터링용, 카운터가 없으면 null)
+     */
+    public Long getLocalRemaining(Long templateId) {
+        LocalStock stock = stocks.get(templateId);
+        return stock != null ? stock.remaining.get() : null;
+    }
+
+    private boolean reserveInDatabase(CouponTemplate template) {
+        Long templateId = template.getId();
+        if (couponTemplateRepository.increaseIssuedCount(templateId) == 1) {
+            return true;
+        }
+
+        // 카운터가 없는 기존 템플릿이면 한 번 집계 후 재시도
+        if (template.getIssuedCount() == null
+                && couponTemplateRepository.initializeIssuedCount(templateId) == 1) {
+            log.info("Coupon issued count initialized: templateId={}", templateId);
+            return couponTemplateRepository.increaseIssuedCount(templateId) == 1;
+        }
+        return false;
+    }
+
+    private BusinessException rejection(CouponTemplate template) {
+        Long currentIssuedCount = couponTemplateRepository.findIssuedCountById(template.getId());
+        if (currentIssuedCount != null && template.isSoldOut(currentIssuedCount)) {
+            return new BusinessException(CouponResultCode.COUPON_SOLD_OUT);
+        }
+        return new BusinessException(CouponResultCode.TEMPLATE_NOT_AVAILABLE);
+    }
+
+    private LocalStock resolveStock(CouponTemplate template) {
+        if (!isLimited(template) || template.getIssuedCount() == null) {
+            // 수량 제한이 없거나 아직 집계되지 않은 템플릿은 DB 카운터만 사용
+            stocks.remove(template.getId());
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        return stocks.compute(template.getId(), (id, current) -> {
+            if (current == null || !Objects.equals(current.totalQuantity, template.getTotalQuantity())) {
+                return LocalStock.of(template);
+            }
+            // 매진 판정 후 일정 시간이 지났는데 DB 기준 잔여 수량이 있으면 재구성
+            // (다른 노드의 롤백 등으로 수량이 반환된 경우)
+            if (current.isSoldOut()
+                    && now - current.soldOutAt >= stockResyncIntervalMillis
+                    && !template.isSoldOut(template.getIssuedCount())) {
+                return LocalStock.of(template);
+            }
+            return current;
+        });
+    }
+
+    private boolean isLimited(CouponTemplate template) {
+        return Boolean.TRUE.equals(template.getIsLimited()) && template.getTotalQuantity() != null;
+    }
+
+    private void releaseOnRollback(LocalStock stock) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    stock.release();
+                }
+            }
+        });
+    }
+
+    /**
+     * 템플릿별 로컬 잔여 수량
+     * 다른 노드의 발급은 반영하지 않으므로 실제 잔여 수량보다 크거나 같다 (거절 판단에만 사용)
+     */
+    private static final class LocalStock {
+
+        private final Integer totalQuantity;
+        private final AtomicLong remaining;
+        private volatile long soldOutAt;
+
+        private LocalStock(Integer totalQuantity, long remaining) {
+            this.totalQuantity = totalQuantity;
+            this.remaining = new AtomicLong(remaining);
+        }
+
+        static LocalStock of(CouponTemplate template) {
+            return new LocalStock(template.getTotalQuantity(),
+                    Math.max(0L, template.getTotalQuantity() - template.getIssuedCount()));
+        }
+
+        boolean tryAcquire() {
+            long current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            if (current == 1) {
+                soldOutAt = System.currentTimeMillis();
+            }
+            return true;
+        }
+
+        void release() {
+            remaining.incrementAndGet();
+        }
+
+        void markSoldOut() {
+            remaining.set(0);
+            soldOutAt = System.currentTimeMillis();
+        }
+
+        boolean isSoldOut() {
+            return remaining.get() <= 0;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.ecommerce.coupon.service;
+
+import com.ecommerce.common.exception.BusinessException;
+import com.ecommerce.coupon.domain.CouponIssueStatus;
+import com.ecommerce.coupon.domain.CouponTemplate;
+import com.ecommerce.coupon.exception.CouponResultCode;
+import com.ecommerce.coupon.repository.CouponTemplateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 대기열 방식 쿠폰 발급 (coupon.issue.queue.enabled=true 일 때만 사용)
+ *
+ * 1. 요청은 템플릿별 메모리 대기열(bounded)에 등록되고 즉시 티켓을 반환
+ * 2. 등록된 티켓 수가 남은 수량을 넘으면 DB에 가지 않고 바로 매진 응답
+ * 3. 워커가 대기열을 비우며 CouponBatchIssuer로 배치 발급
+ * 4. 클라이언트는 티켓을 조회(또는 롱폴링)해 결과를 확인
+ *
+ * 노드 간 초과 발급 방지는 CouponBatchIssuer의 행 잠금과 issued_count가 담당한다.
+ *
+ * 대기중인 티켓이 없고 일정 시간(coupon.issue.queue.idle-evict-ms) 요청이 없는 대기열과
+ * 기간이 끝났거나 삭제된 템플릿의 대기열은 워커가 제거한다.
+ * 제거된 뒤의 중복 요청은 CouponBatchIssuer의 DB 확인에서 ALREADY_ISSUED로 걸러진다.
+ */
+@Slf4j
+@Component
+public class CouponIssueQueue {
+
+    private final CouponTemplateRepository couponTemplateRepository;
+    private final CouponBatchIssuer couponBatchIssuer;
+
+    private final boolean enabled;
+    private final int capacityPerTemplate;
+    private final int batchSize;
+    private final long ticketTtlMillis;
+    private final long maxWaitMillis;
+    private final long idleEvictMillis;
+
+    private final ConcurrentMap<Long, TemplateQueue> queues = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CouponIssueTicket> tickets = new ConcurrentHashMap<>();
+
+    public CouponIssueQueue(CouponTemplateRepository couponTemplateRepository,
+                            CouponBatchIssuer couponBatchIssuer,
+                            @Value("${coupon.issue.queue.enabled:false}") boolean enabled,
+                            @Value("${coupon.issue.queue.capacity-per-template:10000}") int capacityPerTemplate,
+                            @Value("${coupon.issue.queue.batch-size:500}") int batchSize,
+                            @Value("${coupon.issue.queue.ticket-ttl-ms:600000}") long ticketTtlMillis,
+                            @Value("${coupon.issue.queue.max-wait-ms:10000}") long maxWaitMillis,
+                            @Value("${coupon.issue.queue.idle-evict-ms:60000}") long idleEvictMillis) {
+        this.couponTemplateRepository = couponTemplateRepository;
+        this.couponBatchIssuer = couponBatchIssuer;
+        this.enabled = enabled;
+        this.capacityPerTemplate = capacityPerTemplate;
+        this.batchSize = batchSize;
+        this.ticketTtlMillis = ticketTtlMillis;
+        this.maxWaitMillis = maxWaitMillis;
+        this.idleEvictMillis = idleEvictMillis;
+    }
+
+    /**
+     * 발급 요청 등록 후 티켓 반환
+     */
+    public CouponIssueTicket enqueue(Long templateId, String userId) {
+        if (!enabled) {
+            throw new BusinessException(CouponResultCode.ISSUE_QUEUE_DISABLED);
+        }
+
+        while (true) {
+            TemplateQueue queue = getOrLoadQueue(templateId);
+            // 제거 중인 대기열에는 등록하지 않음 (제거는 쓰기 잠금으로 등록과 배타적)
+            queue.lock.readLock().lock();
+            try {
+                if (queue.closed) {
+                    continue;
+                }
+                queue.lastAccessMillis = System.currentTimeMillis();
+                return register(templateId, queue, userId);
+            } finally {
+                queue.lock.readLock().unlock();
+            }
+        }
+    }
+
+    private CouponIssueTicket register(Long templateId, TemplateQueue queue, String userId) {
+        CouponTemplate template = queue.template;
+        if (template == null) {
+            throw new BusinessException(CouponResultCode.TEMPLATE_NOT_FOUND);
+        }
+
+        // 발급 기간 확인 (템플릿 정보는 대기열 생성 시 한 번만 조회)
+        if (!template.isValidPeriod()) {
+            throw new BusinessException(template.isExpired()
+                    ? CouponResultCode.TEMPLATE_EXPIRED
+                    : CouponResultCode.TEMPLATE_NOT_AVAILABLE);
+        }
+
+        // 같은 사용자의 중복 요청 (대기중이거나 이미 발급된 경우)
+        if (!queue.userIds.add(userId)) {
+            throw new BusinessException(CouponResultCode.ALREADY_ISSUED);
+        }
+
+        // 남은 수량을 넘는 요청은 대기열에 넣지 않고 매진 처리
+        if (!queue.admit()) {
+            queue.userIds.remove(userId);
+            throw new BusinessException(CouponResultCode.COUPON_SOLD_OUT);
+        }
+
+        CouponIssueTicket ticket = new CouponIssueTicket(templateId, userId);
+        if (!queue.pending.offer(ticket)) {
+            queue.cancel();
+            queue.userIds.remove(userId);
+            throw new BusinessException(CouponResultCode.ISSUE_QUEUE_FULL);
+        }
+        tickets.put(ticket.getId(), ticket);
+        return ticket;
+    }
+
+    /**
+     * 템플릿별 대기열 조회 (없으면 생성)
+     * 템플릿 조회는 맵 밖에서 수행한다. computeIfAbsent 안에서 DB를 조회하면 조회가 끝날 때까지
+     * 같은 버킷의 다른 템플릿 요청까지 막히고, 가상 스레드는 캐리어 스레드에 고정된다.
+     * 첫 요청이 몰리면 템플릿을 여러 번 조회할 수 있지만 맵에는 하나만 등록된다.
+     */
+    private TemplateQueue getOrLoadQueue(Long templateId) {
+        TemplateQueue queue = queues.get(templateId);
+        if (queue != null) {
+            return queue;
+        }
+        CouponTemplate template = couponTemplateRepository.findByIdAndIsDeletedFalse(templateId)
+                .orElseThrow(() -> new BusinessException(CouponResultCode.TEMPLATE_NOT_FOUND));
+        TemplateQueue created = new TemplateQueue(template, capacityPerTemplate);
+        TemplateQueue existing = queues.putIfAbsent(templateId, created);
+        return existing != null ? existing : created;
+    }
+
+    /**
+     * 티켓 조회 (본인 티켓만)
+     */
+    public CouponIssueTicket getTicket(String ticketId, String userId) {
+        CouponIssueTicket ticket = tickets.get(ticketId);
+        if (ticket == null || !ticket.getUserId().equals(userId)) {
+            throw new BusinessException(CouponResultCode.ISSUE_TICKET_NOT_FOUND);
+        }
+        return ticket;
+    }
+
+    /**
+     * 티켓 롱폴링: 결과가 나오거나 대기 시간이 지나면 완료
+     */
+    public CompletableFuture<CouponIssueTicket> awaitTicket(String ticketId, String userId, long waitMillis) {
+        CouponIssueTicket ticket = getTicket(ticketId, userId);
+        long timeout = Math.min(Math.max(waitMillis, 0L), maxWaitMillis);
+        if (ticket.isCompleted() || timeout == 0) {
+            return CompletableFuture.completedFuture(ticket);
+        }
+        return ticket.getCompletion().copy().completeOnTimeout(ticket, timeout, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 템플릿 정보가 변경되었을 때 대기열의 템플릿 정보 재조회
+     * 대기중인 티켓은 유지되며, 새 정보는 다음 배치부터 적용된다.
+     */
+    public void evict(Long templateId) {
+        TemplateQueue queue = queues.get(templateId);
+        if (queue != null) {
+            queue.reload(couponTemplateRepository.findByIdAndIsDeletedFalse(templateId).orElse(null));
+        }
+    }
+
+    /**
+     * 대기열 처리 워커
+     */
+    @Scheduled(fixedDelayString = "${coupon.issue.queue.drain-interval-ms:50}")
+    public void drain() {
+        if (!enabled) {
+            return;
+        }
+        queues.forEach((templateId, queue) -> {
+            List<CouponIssueTicket> batch = new ArrayList<>(batchSize);
+            while (queue.pending.drainTo(batch, batchSize) > 0) {
+                processBatch(templateId, queue, batch);
+                batch.clear();
+            }
+        });
+        evictIdleQueues();
+        removeExpiredTickets();
+    }
+
+    /**
+     * 더 받을 요청이 없는 대기열 제거 (대기중인 티켓이 남아 있으면 다음 실행에서 다시 확인)
+     */
+    private void evictIdleQueues() {
+        long idleBefore = System.currentTimeMillis() - idleEvictMillis;
+        queues.forEach((templateId, queue) -> {
+            CouponTemplate template = queue.template;
+            boolean closedTemplate = template == null || template.isExpired();
+            if (!closedTemplate && queue.lastAccessMillis >= idleBefore) {
+                return;
+            }
+            // 등록 중인 요청이 있으면 다음 실행에서 다시 시도
+            if (!queue.lock.writeLock().tryLock()) {
+                return;
+            }
+            try {
+                if (queue.pending.isEmpty()) {
+                    queue.closed = true;
+                    queues.remove(templateId, queue);
+                    log.debug("Coupon issue queue evicted: templateId={}, users={}", templateId, queue.userIds.size());
+                }
+            } finally {
+                queue.lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private void processBatch(Long templateId, TemplateQueue queue, List<CouponIssueTicket> batch) {
+        try {
+            couponBatchIssuer.issue(templateId, batch);
+            batch.forEach(CouponIssueTicket::complete);
+        } catch (Exception e) {
+            log.error("Coupon batch issue failed: templateId={}, size={}", templateId, batch.size(), e);
+            batch.forEach(ticket -> ticket.complete(CouponIssueStatus.FAILED, null));
+        }
+
+        for (CouponIssueTicket ticket : batch) {
+            CouponIssueStatus status = ticket.getStatus();
+            if (status == CouponIssueStatus.SOLD_OUT) {
+                // 다른 노드에서 수량이 소진됨
+                queue.markSoldOut();
+            }
+            if (status != CouponIssueStatus.ISSUED) {
+                queue.cancel();
+            }
+            if (status == CouponIssueStatus.SOLD_OUT || status == CouponIssueStatus.FAILED) {
+                // 발급받지 못한 사용자는 다시 요청할 수 있도록 허용 (매진이면 등록 단계에서 거절됨)
+                queue.userIds.remove(ticket.getUserId());
+            }
+        }
+    }
+
+    private void removeExpiredTickets() {
+        long expireBefore = System.currentTimeMillis() - ticketTtlMillis;
+        tickets.values().removeIf(ticket -> ticket.isCompleted() && ticket.getCompletedAtMillis() < expireBefore);
+    }
+
+    /**
+     * 템플릿별 대기열
+     */
+    private static final class TemplateQueue {
+
+        private final BlockingQueue<CouponIssueTicket> pending;
+        private final Set<String> userIds = ConcurrentHashMap.newKeySet();
+        // 대기중이거나 발급 완료된 티켓 수
+        private final AtomicLong admitted = new AtomicLong();
+        private volatile CouponTemplate template;
+        private volatile long limit;
+        // 등록(읽기 잠금)과 제거(쓰기 잠금)를 배타적으로 처리
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile boolean closed;
+        private volatile long lastAccessMillis;
+
+        private TemplateQueue(CouponTemplate template, int capacity) {
+            this.pending = new ArrayBlockingQueue<>(capacity);
+            this.lastAccessMillis = System.currentTimeMillis();
+            reload(template);
+        }
+
+        /**
+         * 최신 템플릿 정보로 받을 수 있는 수량 재계산
+         * DB의 issuedCount에 이미 발급된 티켓이 반영되어 있으므로 대기중인 티켓만 다시 센다.
+         */
+        void reload(CouponTemplate template) {
+            // null이면 삭제된 템플릿 (더 이상 받지 않음)
+            this.template = template;
+            if (template == null) {
+                this.limit = 0;
+                return;
+            }
+            boolean limited = Boolean.TRUE.equals(template.getIsLimited()) && template.getTotalQuantity() != null;
+            // issuedCount가 집계되지 않은 템플릿은 총 수량 기준으로 받고 실제 판정은 배치에서 수행
+            long alreadyIssued = template.getIssuedCount() != null ? template.getIssuedCount() : 0L;
+            this.admitted.set(pending.size());
+            this.limit = limited ? Math.max(0L, template.getTotalQuantity() - alreadyIssued) : Long.MAX_VALUE;
+        }
+
+        boolean admit() {
+            long current;
+            do {
+                current = admitted.get();
+                if (current >= limit) {
+                    return false;
+                }
+            } while (!admitted.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        void cancel() {
+            admitted.decrementAndGet();
+        }
+
+        void markSoldOut() {
+            this.limit = 0;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.ecommerce.coupon.service;
+
+import com.ecommerce.coupon.domain.Coupon;
+import com.ecommerce.coupon.domain.CouponIssueStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 대기열 발급 티켓
+ * 발급 요청 시 즉시 반환되며, 배치 워커가 처리한 결과를 담는다.
+ */
+@Getter
+public class CouponIssueTicket {
+
+    private final String id;
+    private final Long templateId;
+    private final String userId;
+    private final LocalDateTime requestedAt;
+
+    private volatile CouponIssueStatus status = CouponIssueStatus.WAITING;
+    private volatile Coupon coupon;
+    @Getter(AccessLevel.PACKAGE)
+    private volatile long completedAtMillis;
+
+    // 배치 트랜잭션 안에서 결정된 결과 (커밋 후 반영)
+    @Getter(AccessLevel.NONE)
+    private CouponIssueStatus pendingStatus;
+    @Getter(AccessLevel.NONE)
+    private Coupon pendingCoupon;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final CompletableFuture<CouponIssueTicket> completion = new CompletableFuture<>();
+
+    CouponIssueTicket(Long templateId, String userId) {
+        this.id = UUID.randomUUID().toString();
+        this.templateId = templateId;
+        this.userId = userId;
+        this.requestedAt = LocalDateTime.now();
+    }
+
+    void assign(CouponIssueStatus status, Coupon coupon) {
+        this.pendingStatus = status;
+        this.pendingCoupon = coupon;
+    }
+
+    /**
+     * 배치 결과 반영 (결과가 정해지지 않은 티켓은 실패 처리)
+     */
+    void complete() {
+        if (pendingStatus == null) {
+            complete(CouponIssueStatus.FAILED, null);
+        } else {
+            complete(pendingStatus, pendingCoupon);
+        }
+    }
+
+    void complete(CouponIssueStatus status, Coupon coupon) {
+        this.coupon = coupon;
+        this.status = status;
+        this.completedAtMillis = System.currentTimeMillis();
+        completion.complete(this);
+    }
+
+    public boolean isCompleted() {
+        return status.isCompleted();
+    }
+}
@@ -0,0 +1,53 @@
+package com.ecommerce.coupon.service;
+
+import com.ecommerce.coupon.domain.CouponTemplate;
+import com.ecommerce.coupon.dto.CouponTemplateResponse;
+import com.ecommerce.coupon.repository.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 템플릿 목록의 발급 수량 조회
+ *
+ * coupon_templates.issued_count 카운터를 우선 사용하고,
+ * 아직 집계되지 않은 기존 템플릿만 GROUP BY 한 번으로 조회한다. (템플릿별 COUNT 반복 조회 방지)
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponIssuedCountReader {
+    
+    private final CouponRepository couponRepository;
+    
+    public List<CouponTemplateResponse> toResponses(List<CouponTemplate> templates) {
+        Map<Long, Long> issuedCounts = getIssuedCounts(templates);
+        return templates.stream()
+                .map(template -> CouponTemplateResponse.fromWithIssuedCount(
+                        template, issuedCounts.getOrDefault(template.getId(), 0L)))
+                .collect(Collectors.toList());
+    }
+    
+    public Map<Long, Long> getIssuedCounts(List<CouponTemplate> templates) {
+        Map<Long, Long> issuedCounts = new HashMap<>();
+        List<Long> uncountedIds = new ArrayList<>();
+        for (CouponTemplate template : templates) {
+            if (template.getIssuedCount() != null) {
+                issuedCounts.put(template.getId(), template.getIssuedCount());
+            } else {
+                uncountedIds.add(template.getId());
+            }
+        }
+        
+        if (!uncountedIds.isEmpty()) {
+            for (Object[] row : couponRepository.countGroupByTemplateIdIn(uncountedIds)) {
+                issuedCounts.put((Long) row[0], (Long) row[1]);
+            }
+        }
+        return issuedCounts;
+    }
+}
@@ -4,6 +4,7 @@ import com.ecommerce.common.exception.BusinessException;
 import com.ecommerce.coupon.domain.Coupon;
 import com.ecommerce.coupon.domain.CouponTemplate;
 import com.ecommerce.coupon.dto.CouponIssueRequest;
+import com.ecommerce.coupon.dto.CouponRedeemResponse;
 import com.ecommerce.coupon.dto.CouponResponse;
 import com.ecommerce.coupon.dto.CouponTemplateResponse;
 import com.ecommerce.coupon.exception.CouponResultCode;
@@ -15,7 +16,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,33 +30,27 @@ public class CouponService {
     
     private final CouponTemplateRepository couponTemplateRepository;
     private final CouponRepository couponRepository;
+    private final CouponIssueEngine couponIssueEngine;
+    private final CouponIssuedCountReader couponIssuedCountReader;
+    private final CouponTemplateListCache couponTemplateListCache;
+    private final CouponTemplateCache couponTemplateCache;
     
     /**
      * 발급 가능한 쿠폰 템플릿 목록 조회
      */
     public List<CouponTemplateResponse> getAvailableCouponTemplates() {
-        LocalDateTime now = LocalDateTime.now();
-        return couponTemplateRepository.findAvailableTemplates(now)
-                .stream()
-                .map(template -> {
-                    Long issuedCount = couponRepository.countByTemplateId(template.getId());
-                    return CouponTemplateResponse.fromWithIssuedCount(template, issuedCount);
-                })
-                .collect(Collectors.toList());
+        return couponTemplateListCache.get(CouponTemplateListCache.AVAILABLE, () ->
+                couponIssuedCountReader.toResponses(
+                        couponTemplateRepository.findAvailableTemplates(LocalDateTime.now())));
     }
     
     /**
      * 모든 쿠폰 템플릿 조회 (관리자용)
      */
     public List<CouponTemplateResponse> getAllCouponTemplates() {
-        LocalDateTime now = LocalDateTime.now();
-        return couponTemplateRepository.findActiveTemplates(now)
-                .stream()
-                .map(template -> {
-                    Long issuedCount = couponRepository.countByTemplateId(template.getId());
-                    return CouponTemplateResponse.fromWithIssuedCount(template, issuedCount);
-                })
-                .collect(Collectors.toList());
+        return couponTemplateListCache.get(CouponTemplateListCache.ACTIVE, () ->
+                couponIssuedCountReader.toResponses(
+                        couponTemplateRepository.findActiveTemplates(LocalDateTime.now())));
     }
     
     /**
@@ -78,32 +76,13 @@ public class CouponService {
             throw new BusinessException(CouponResultCode.ALREADY_ISSUED);
         }
         
-        // 선착순 수량 확인 (동시성 제어를 위해 synchronized 사용)
-        synchronized (this) {
-            Long currentIssuedCount = couponRepository.countByTemplateId(request.getTemplateId());
-            
-            if (!template.canIssue(currentIssuedCount)) {
-                if (template.isSoldOut(currentIssuedCount)) {
-                    throw new BusinessException(CouponResultCode.COUPON_SOLD_OUT);
-                } else {
-                    throw new BusinessException(CouponResultCode.TEMPLATE_NOT_AVAILABLE);
-                }
-            }
-            
-            // 쿠폰 발급
-            Coupon coupon = Coupon.builder()
-                    .templateId(request.getTemplateId())
-                    .userId(userId)
-                    .build();
-            
-            Coupon savedCoupon = couponRepository.save(coupon);
-            
-            log.info("Coupon issued: templateId={}, userId={}, couponId={}, currentCount={}/{}", 
-                    request.getTemplateId(), userId, savedCoupon.getId(), 
-                    currentIssuedCount + 1, template.getTotalQuantity());
-            
-            return CouponResponse.from(savedCoupon);
-        }
+        // 선착순 수량 확보 및 쿠폰 발급 (템플릿별 카운터로 동시성 제어)
+        Coupon savedCoupon = couponIssueEngine.issue(template, userId);
+        
+        log.info("Coupon issued: templateId={}, userId={}, couponId={}, totalQuantity={}", 
+                request.getTemplateId(), userId, savedCoupon.getId(), template.getTotalQuantity());
+        
+        return CouponResponse.from(savedCoupon);
     }
     
     /**
@@ -111,15 +90,7 @@ public class CouponService {
      */
     public List<CouponResponse> getUserCoupons(String userId) {
         List<Coupon> coupons = couponRepository.findByUserIdOrderByIssuedAtDesc(userId);
-        return coupons.stream()
-                .map(coupon -> {
-                    CouponTemplate template = couponTemplateRepository.findById(coupon.getTemplateId())
-                            .orElse(null);
-                    return template != null 
-                            ? CouponResponse.fromWithTemplate(coupon, template)
-                            : CouponResponse.from(coupon);
-                })
-                .collect(Collectors.toList());
+        return toResponsesWithTemplate(coupons);
     }
     
     /**
@@ -127,15 +98,7 @@ public class CouponService {
      */
     public List<CouponResponse> getUserAvailableCoupons(String userId) {
         List<Coupon> coupons = couponRepository.findByUserIdAndIsUsedFalseOrderByIssuedAtDesc(userId);
-        return coupons.stream()
-                .map(coupon -> {
-                    CouponTemplate template = couponTemplateRepository.findById(coupon.getTemplateId())
-                            .orElse(null);
-                    return template != null 
-                            ? CouponResponse.fromWithTemplate(coupon, template)
-                            : CouponResponse.from(coupon);
-                })
-                .collect(Collectors.toList());
+        return toResponsesWithTemplate(coupons);
     }
     
     /**
@@ -143,16 +106,60 @@ public class CouponService {
      */
     @Transactional
     public void useCoupon(Long couponId, String userId) {
+        // 조건부 UPDATE 한 번으로 사용 처리 (동시 사용 시 한 요청만 성공)
+        int updated = couponRepository.markUsed(couponId, userId, LocalDateTime.now());
+        if (updated == 0) {
+            // 실패한 경우에만 원인 확인
+            throw new BusinessException(couponRepository.findByIdAndUserId(couponId, userId).isPresent()
+                    ? CouponResultCode.COUPON_ALREADY_USED
+                    : CouponResultCode.COUPON_NOT_FOUND);
+        }
+        
+        log.info("Coupon used: couponId={}, userId={}", couponId, userId);
+    }
+    
+    /**
+     * 쿠폰 사용 처리 후 할인 정보 반환 (주문 생성 시 한 번의 호출로 사용 + 조회)
+     */
+    @Transactional
+    public CouponRedeemResponse redeemCoupon(Long couponId, String userId) {
+        useCoupon(couponId, userId);
+        
         Coupon coupon = couponRepository.findByIdAndUserId(couponId, userId)
                 .orElseThrow(() -> new BusinessException(CouponResultCode.COUPON_NOT_FOUND));
-        
-        if (!coupon.canUse()) {
-            throw new BusinessException(CouponResultCode.COUPON_ALREADY_USED);
+        CouponTemplate template = couponTemplateCache.getTemplate(coupon.getTemplateId());
+        if (template == null) {
+            throw new BusinessException(CouponResultCode.TEMPLATE_NOT_FOUND);
         }
         
-        coupon.use();
+        return CouponRedeemResponse.of(coupon, template);
+    }
+    
+    /**
+     * 쿠폰 사용 취소 (주문 생성 실패 시 보상 처리용, 이미 미사용 상태면 무시)
+     */
+    @Transactional
+    public void releaseCoupon(Long couponId, String userId) {
+        int updated = couponRepository.markUnused(couponId, userId);
         
-        log.info("Coupon used: couponId={}, userId={}", couponId, userId);
+        log.info("Coupon released: couponId={}, userId={}, updated={}", couponId, userId, updated);
+    }
+    
+    /**
+     * 쿠폰 일괄 사용 (하나라도 사용할 수 없으면 전체 롤백)
+     */
+    @Transactional
+    public void useCoupons(List<Long> couponIds, String userId) {
+        Set<Long> distinctIds = new LinkedHashSet<>(couponIds);
+        int updated = couponRepository.markAllUsed(distinctIds, userId, LocalDateTime.now());
+        if (updated != distinctIds.size()) {
+            List<Coupon> owned = couponRepository.findByIdInAndUserId(distinctIds, userId);
+            throw new BusinessException(owned.size() == distinctIds.size()
+                    ? CouponResultCode.COUPON_ALREADY_USED
+                    : CouponResultCode.COUPON_NOT_FOUND);
+        }
+        
+        log.info("Coupons used: couponIds={}, userId={}", distinctIds, userId);
     }
     
     /**
@@ -162,11 +169,29 @@ public class CouponService {
         Coupon coupon = couponRepository.findByIdAndUserId(couponId, userId)
                 .orElseThrow(() -> new BusinessException(CouponResultCode.COUPON_NOT_FOUND));
         
-        CouponTemplate template = couponTemplateRepository.findById(coupon.getTemplateId())
-                .orElse(null);
+        CouponTemplate template = couponTemplateCache.getTemplate(coupon.getTemplateId());
         
         return template != null 
                 ? CouponResponse.fromWithTemplate(coupon, template)
                 : CouponResponse.from(coupon);
     }
+    
+    /**
+     * 쿠폰 목록에 템플릿 정보 채우기 (템플릿은 캐시 또는 IN 쿼리 한 번으로 조회)
+     */
+    private List<CouponResponse> toResponsesWithTemplate(List<Coupon> coupons) {
+        Set<Long> templateIds = coupons.stream()
+                .map(Coupon::getTemplateId)
+                .collect(Collectors.toSet());
+        Map<Long, CouponTemplate> templates = couponTemplateCache.getTemplates(templateIds);
+        
+        return coupons.stream()
+                .map(coupon -> {
+                    CouponTemplate template = templates.get(coupon.getTemplateId());
+                    return template != null 
+                            ? CouponResponse.fromWithTemplate(coupon, template)
+                            : CouponResponse.from(coupon);
+                })
+                .collect(Collectors.toList());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.ecommerce.coupon.service;
+
+import com.ecommerce.coupon.domain.CouponTemplate;
+import com.ecommerce.coupon.repository.CouponTemplateRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 쿠폰 템플릿 단건 캐시 (프로세스 내)
+ *
+ * 템플릿은 작고 거의 바뀌지 않으며 모든 사용자가 공유하므로, 쿠폰함 조회 시 템플릿 정보를 캐시에서 채운다.
+ * 캐시에 없는 템플릿만 IN 쿼리 한 번으로 조회한다.
+ * 발급 수량(issuedCount)은 캐시 값이 최신이 아닐 수 있으므로 사용하지 않는다.
+ */
+@Component
+public class CouponTemplateCache {
+    
+    private final CouponTemplateRepository couponTemplateRepository;
+    private final long ttlMillis;
+    private final int maxSize;
+    
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    
+    public CouponTemplateCache(CouponTemplateRepository couponTemplateRepository,
+                               @Value("${coupon.template-cache.entry-ttl-ms:60000}") long ttlMillis,
+                               @Value("${coupon.template-cache.max-size:10000}") int maxSize) {
+        this.couponTemplateRepository = couponTemplateRepository;
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+    }
+    
+    /**
+     * 템플릿 일괄 조회 (삭제된 템플릿 포함, 없는 ID는 결과에서 제외)
+     */
+    public Map<Long, CouponTemplate> getTemplates(Collection<Long> templateIds) {
+        Map<Long, CouponTemplate> result = new HashMap<>();
+        Set<Long> missingIds = new HashSet<>();
+        long now = System.currentTimeMillis();
+        
+        for (Long templateId : templateIds) {
+            Entry entry = entries.get(templateId);
+            if (entry != null && entry.expiresAt > now) {
+                result.put(templateId, entry.template);
+            } else {
+                missingIds.add(templateId);
+            }
+        }
+        
+        if (!missingIds.isEmpty()) {
+            for (CouponTemplate template : couponTemplateRepository.findAllById(missingIds)) {
+                result.put(template.getId(), template);
+                put(template, now);
+            }
+        }
+        return result;
+    }
+    
+    public CouponTemplate getTemplate(Long templateId) {
+        return getTemplates(Set.of(templateId)).get(templateId);
+    }
+    
+    /**
+     * 템플릿 제거 (트랜잭션 안이면 커밋 후에도 한 번 더 제거)
+     */
+    public void evict(Long templateId) {
+        entries.remove(templateId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.remove(templateId);
+                }
+            });
+        }
+    }
+    
+    private void put(CouponTemplate template, long now) {
+        if (entries.size() >= maxSize) {
+            // 템플릿 수는 많지 않으므로 한도를 넘으면 만료된 항목부터 정리하고, 그래도 넘치면 비운다
+            entries.values().removeIf(entry -> entry.expiresAt <= now);
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+        entries.put(template.getId(), new Entry(template, now + ttlMillis));
+    }
+    
+    private static final class Entry {
+        
+        private final CouponTemplate template;
+        private final long expiresAt;
+        
+        private Entry(CouponTemplate template, long expiresAt) {
+            this.template = template;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
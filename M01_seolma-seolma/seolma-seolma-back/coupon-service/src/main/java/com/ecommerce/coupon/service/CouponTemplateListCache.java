@@ -0,0 +1,89 @@
+package com.ecommerce.coupon.service;
+
+import com.ecommerce.coupon.dto.CouponTemplateResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 쿠폰 템플릿 목록 캐시 (짧은 TTL)
+ *
+ * 세일 기간에 가장 많이 호출되는 템플릿 목록 조회를 캐싱한다.
+ * 발급 수량은 TTL 동안 지연될 수 있으며, 템플릿 생성/수정/삭제 시에는 커밋 직후 비운다.
+ */
+@Slf4j
+@Component
+public class CouponTemplateListCache {
+    
+    public static final String AVAILABLE = "available";
+    public static final String ACTIVE = "active";
+    
+    private final long ttlMillis;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    
+    public CouponTemplateListCache(@Value("${coupon.template-cache.ttl-ms:2000}") long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+    
+    public List<CouponTemplateResponse> get(String key, Supplier<List<CouponTemplateResponse>> loader) {
+        if (ttlMillis <= 0) {
+            return loader.get();
+        }
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.value;
+        }
+        
+        // 만료 시 동시에 들어온 요청 중 하나만 DB를 조회
+        // (ConcurrentHashMap.compute 안에서 DB를 조회하면 가상 스레드가 캐리어 스레드에 고정되므로 ReentrantLock 사용)
+        loadLock.lock();
+        try {
+            entry = entries.get(key);
+            if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+                return entry.value;
+            }
+            List<CouponTemplateResponse> value = List.copyOf(loader.get());
+            entries.put(key, new Entry(value, System.currentTimeMillis() + ttlMillis));
+            return value;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+    
+    /**
+     * 캐시 비우기 (트랜잭션 안이면 커밋 후에도 한 번 더 비워 커밋 전 값이 다시 캐싱되는 것을 방지)
+     */
+    public void invalidate() {
+        entries.clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.clear();
+                }
+            });
+        }
+        log.debug("Coupon template list cache invalidated");
+    }
+    
+    private static final class Entry {
+        
+        private final List<CouponTemplateResponse> value;
+        private final long expiresAt;
+        
+        private Entry(List<CouponTemplateResponse> value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.ecommerce.coupon.repository;
+
+import com.ecommerce.coupon.domain.Coupon;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class CouponRepositoryTest {
+
+    private static final Long TEMPLATE_ID = 1L;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Test
+    @DisplayName("미사용 쿠폰만 사용 처리 (이미 사용했거나 다른 사용자의 쿠폰이면 0건)")
+    void markUsed_OnlyUnusedOwnCoupon() {
+        // given
+        Coupon coupon = couponRepository.saveAndFlush(new Coupon(TEMPLATE_ID, "user1"));
+
+        // when
+        int first = couponRepository.markUsed(coupon.getId(), "user1", LocalDateTime.now());
+        int again = couponRepository.markUsed(coupon.getId(), "user1", LocalDateTime.now());
+        int otherUser = couponRepository.markUsed(coupon.getId(), "user2", LocalDateTime.now());
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(again).isZero();
+        assertThat(otherUser).isZero();
+        Coupon used = couponRepository.findById(coupon.getId()).orElseThrow();
+        assertThat(used.getIsUsed()).isTrue();
+        assertThat(used.getUsedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("일괄 사용은 조건에 맞는 쿠폰만 변경하고 변경된 건수를 반환 (일부만 일치)")
+    void markAllUsed_PartialMatch() {
+        // given
+        Coupon unused = couponRepository.save(new Coupon(TEMPLATE_ID, "user1"));
+        Coupon alreadyUsed = couponRepository.save(new Coupon(TEMPLATE_ID, "user1"));
+        Coupon otherUsers = couponRepository.save(new Coupon(TEMPLATE_ID, "user2"));
+        couponRepository.flush();
+        couponRepository.markUsed(alreadyUsed.getId(), "user1", LocalDateTime.now().minusDays(1));
+
+        // when
+        int updated = couponRepository.markAllUsed(
+                List.of(unused.getId(), alreadyUsed.getId(), otherUsers.getId()), "user1", LocalDateTime.now());
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(couponRepository.findById(unused.getId()).orElseThrow().getIsUsed()).isTrue();
+        assertThat(couponRepository.findById(otherUsers.getId()).orElseThrow().getIsUsed()).isFalse();
+        assertThat(couponRepository.findById(alreadyUsed.getId()).orElseThrow().getUsedAt())
+                .isBefore(LocalDateTime.now().minusHours(1));
+    }
+}
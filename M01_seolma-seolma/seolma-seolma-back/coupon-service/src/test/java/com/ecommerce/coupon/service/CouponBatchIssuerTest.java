@@ -0,0 +1,123 @@
+package com.ecommerce.coupon.service;
+
+import com.ecommerce.coupon.domain.Coupon;
+import com.ecommerce.coupon.domain.CouponIssueStatus;
+import com.ecommerce.coupon.domain.CouponTemplate;
+import com.ecommerce.coupon.domain.DiscountType;
+import com.ecommerce.coupon.repository.CouponRepository;
+import com.ecommerce.coupon.repository.CouponTemplateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponBatchIssuerTest {
+
+    private static final Long TEMPLATE_ID = 1L;
+
+    @Mock
+    private CouponTemplateRepository couponTemplateRepository;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Captor
+    private ArgumentCaptor<List<CouponIssueTicket>> inserted;
+
+    private CouponBatchIssuer couponBatchIssuer;
+
+    @BeforeEach
+    void setUp() {
+        couponBatchIssuer = new CouponBatchIssuer(couponTemplateRepository, couponRepository, jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("남은 수량만큼 한 번에 INSERT하고 중복 사용자와 초과 요청은 제외")
+    void issue_BatchInsertsRemainingAndRejectsDuplicatesAndOverflow() {
+        // given: 총 3장 중 1장 발급됨 → 남은 수량 2
+        given(couponTemplateRepository.findByIdForUpdate(TEMPLATE_ID)).willReturn(Optional.of(limitedTemplate(3, 1L)));
+        given(couponRepository.findUserIdsByTemplateIdAndUserIdIn(eq(TEMPLATE_ID), anyCollection())).willReturn(List.of("user1"));
+        given(couponRepository.findByTemplateIdAndUserIdIn(eq(TEMPLATE_ID), anyCollection())).willAnswer(invocation -> {
+            Collection<String> userIds = invocation.getArgument(1);
+            return userIds.stream().map(userId -> new Coupon(TEMPLATE_ID, userId)).toList();
+        });
+        CouponIssueTicket alreadyIssued = new CouponIssueTicket(TEMPLATE_ID, "user1");
+        CouponIssueTicket first = new CouponIssueTicket(TEMPLATE_ID, "user2");
+        CouponIssueTicket second = new CouponIssueTicket(TEMPLATE_ID, "user3");
+        CouponIssueTicket duplicate = new CouponIssueTicket(TEMPLATE_ID, "user3");
+        CouponIssueTicket overflow = new CouponIssueTicket(TEMPLATE_ID, "user4");
+        List<CouponIssueTicket> tickets = List.of(alreadyIssued, first, second, duplicate, overflow);
+
+        // when
+        int issued = couponBatchIssuer.issue(TEMPLATE_ID, tickets);
+        tickets.forEach(CouponIssueTicket::complete);
+
+        // then
+        assertThat(issued).isEqualTo(2);
+        assertThat(alreadyIssued.getStatus()).isEqualTo(CouponIssueStatus.ALREADY_ISSUED);
+        assertThat(first.getStatus()).isEqualTo(CouponIssueStatus.ISSUED);
+        assertThat(second.getStatus()).isEqualTo(CouponIssueStatus.ISSUED);
+        assertThat(second.getCoupon().getUserId()).isEqualTo("user3");
+        assertThat(duplicate.getStatus()).isEqualTo(CouponIssueStatus.ALREADY_ISSUED);
+        assertThat(overflow.getStatus()).isEqualTo(CouponIssueStatus.SOLD_OUT);
+
+        verify(jdbcTemplate).batchUpdate(anyString(), inserted.capture(), eq(2), any());
+        assertThat(inserted.getValue()).containsExactly(first, second);
+        verify(couponTemplateRepository).increaseIssuedCountBy(TEMPLATE_ID, 2);
+    }
+
+    @Test
+    @DisplayName("수량이 모두 소진되었으면 INSERT 없이 전부 매진")
+    void issue_SoldOut_NoInsert() {
+        // given
+        given(couponTemplateRepository.findByIdForUpdate(TEMPLATE_ID)).willReturn(Optional.of(limitedTemplate(3, 3L)));
+        given(couponRepository.findUserIdsByTemplateIdAndUserIdIn(eq(TEMPLATE_ID), anyCollection())).willReturn(List.of());
+        List<CouponIssueTicket> tickets = List.of(
+                new CouponIssueTicket(TEMPLATE_ID, "user1"),
+                new CouponIssueTicket(TEMPLATE_ID, "user2"));
+
+        // when
+        int issued = couponBatchIssuer.issue(TEMPLATE_ID, tickets);
+        tickets.forEach(CouponIssueTicket::complete);
+
+        // then
+        assertThat(issued).isZero();
+        assertThat(tickets).extracting(CouponIssueTicket::getStatus).containsOnly(CouponIssueStatus.SOLD_OUT);
+        verifyNoInteractions(jdbcTemplate);
+        verify(couponTemplateRepository, never()).increaseIssuedCountBy(anyLong(), anyLong());
+    }
+
+    private CouponTemplate limitedTemplate(int totalQuantity, Long issuedCount) {
+        CouponTemplate template = CouponTemplate.builder()
+                .title("선착순 쿠폰")
+                .discountType(DiscountType.FIXED_AMOUNT)
+                .discountValue(1000)
+                .startedAt(LocalDateTime.now().minusDays(1))
+                .finishedAt(LocalDateTime.now().plusDays(1))
+                .isLimited(true)
+                .totalQuantity(totalQuantity)
+                .build();
+        ReflectionTestUtils.setField(template, "id", TEMPLATE_ID);
+        ReflectionTestUtils.setField(template, "issuedCount", issuedCount);
+        return template;
+    }
+}
@@ -0,0 +1,168 @@
+package com.ecommerce.coupon.service;
+
+import com.ecommerce.common.exception.BusinessException;
+import com.ecommerce.coupon.domain.Coupon;
+import com.ecommerce.coupon.domain.CouponTemplate;
+import com.ecommerce.coupon.domain.DiscountType;
+import com.ecommerce.coupon.exception.CouponResultCode;
+import com.ecommerce.coupon.repository.CouponRepository;
+import com.ecommerce.coupon.repository.CouponTemplateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueEngineTest {
+
+    private static final Long TEMPLATE_ID = 1L;
+
+    @Mock
+    private CouponTemplateRepository couponTemplateRepository;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    private CouponIssueEngine couponIssueEngine;
+
+    // DB의 issued_count 컬럼 역할
+    private final AtomicLong dbIssuedCount = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        couponIssueEngine = new CouponIssueEngine(couponTemplateRepository, couponRepository, 1000L);
+    }
+
+    @Test
+    @DisplayName("동시 발급 요청 시 총 수량을 초과하여 발급하지 않는다")
+    void issue_Concurrent_NoOversell() throws InterruptedException {
+        // given
+        int totalQuantity = 100;
+        int requestCount = 500;
+        CouponTemplate template = limitedTemplate(totalQuantity);
+        stubConditionalUpdate(totalQuantity);
+        given(couponRepository.save(any(Coupon.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger soldOutCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+
+        // when
+        for (int i = 0; i < requestCount; i++) {
+            String userId = "user" + i;
+            executor.submit(() -> {
+                try {
+                    couponIssueEngine.issue(template, userId);
+                    successCount.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getResultCode() == CouponResultCode.COUPON_SOLD_OUT) {
+                        soldOutCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(totalQuantity);
+        assertThat(soldOutCount.get()).isEqualTo(requestCount - totalQuantity);
+        assertThat(dbIssuedCount.get()).isEqualTo(totalQuantity);
+        assertThat(couponIssueEngine.getLocalRemaining(TEMPLATE_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("로컬 수량이 소진되면 DB 카운터를 갱신하지 않고 매진 처리한다")
+    void issue_LocalSoldOut_SkipDatabase() {
+        // given
+        CouponTemplate template = limitedTemplate(1);
+        stubConditionalUpdate(1);
+        given(couponRepository.save(any(Coupon.class))).willAnswer(invocation -> invocation.getArgument(0));
+        couponIssueEngine.issue(template, "user1");
+
+        // when & then
+        assertThatThrownBy(() -> couponIssueEngine.issue(template, "user2"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("resultCode", CouponResultCode.COUPON_SOLD_OUT);
+
+        then(couponTemplateRepository).should(times(1)).increaseIssuedCount(TEMPLATE_ID);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 수량이 소진되어 DB 갱신에 실패하면 매진 처리한다")
+    void issue_DatabaseSoldOut_ThrowSoldOut() {
+        // given
+        CouponTemplate template = limitedTemplate(10);
+        given(couponTemplateRepository.increaseIssuedCount(TEMPLATE_ID)).willReturn(0);
+        given(couponTemplateRepository.findIssuedCountById(TEMPLATE_ID)).willReturn(10L);
+
+        // when & then
+        assertThatThrownBy(() -> couponIssueEngine.issue(template, "user1"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("resultCode", CouponResultCode.COUPON_SOLD_OUT);
+
+        assertThat(couponIssueEngine.getLocalRemaining(TEMPLATE_ID)).isZero();
+        then(couponRepository).should(never()).save(any(Coupon.class));
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 선점한 로컬 수량을 반환한다")
+    void issue_SaveFailed_ReleaseLocalStock() {
+        // given
+        CouponTemplate template = limitedTemplate(10);
+        stubConditionalUpdate(10);
+        given(couponRepository.save(any(Coupon.class))).willThrow(new IllegalStateException("db error"));
+
+        // when & then
+        assertThatThrownBy(() -> couponIssueEngine.issue(template, "user1"))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(couponIssueEngine.getLocalRemaining(TEMPLATE_ID)).isEqualTo(10L);
+    }
+
+    private CouponTemplate limitedTemplate(int totalQuantity) {
+        CouponTemplate template = CouponTemplate.builder()
+                .title("선착순 쿠폰")
+                .discountType(DiscountType.FIXED_AMOUNT)
+                .discountValue(1000)
+                .startedAt(LocalDateTime.now().minusDays(1))
+                .finishedAt(LocalDateTime.now().plusDays(1))
+                .isLimited(true)
+                .totalQuantity(totalQuantity)
+                .build();
+        ReflectionTestUtils.setField(template, "id", TEMPLATE_ID);
+        return template;
+    }
+
+    private void stubConditionalUpdate(int totalQuantity) {
+        // issued_count < total_quantity 일 때만 증가하는 조건부 UPDATE
+        given(couponTemplateRepository.increaseIssuedCount(TEMPLATE_ID)).willAnswer(invocation -> {
+            long current;
+            do {
+                current = dbIssuedCount.get();
+                if (current >= totalQuantity) {
+                    return 0;
+                }
+            } while (!dbIssuedCount.compareAndSet(current, current + 1));
+            return 1;
+        });
+    }
+}
@@ -0,0 +1,164 @@
+package com.ecommerce.coupon.service;
+
+import com.ecommerce.common.exception.BusinessException;
+import com.ecommerce.coupon.domain.CouponIssueStatus;
+import com.ecommerce.coupon.domain.CouponTemplate;
+import com.ecommerce.coupon.domain.DiscountType;
+import com.ecommerce.coupon.exception.CouponResultCode;
+import com.ecommerce.coupon.repository.CouponTemplateRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueQueueTest {
+
+    private static final Long TEMPLATE_ID = 1L;
+
+    @Mock
+    private CouponTemplateRepository couponTemplateRepository;
+
+    @Mock
+    private CouponBatchIssuer couponBatchIssuer;
+
+    @Test
+    @DisplayName("같은 사용자의 중복 요청은 대기열에 넣지 않고 ALREADY_ISSUED")
+    void enqueue_DuplicateUser_AlreadyIssued() {
+        // given
+        given(couponTemplateRepository.findByIdAndIsDeletedFalse(TEMPLATE_ID)).willReturn(Optional.of(limitedTemplate(10)));
+        CouponIssueQueue queue = issueQueue(500, 60000);
+        queue.enqueue(TEMPLATE_ID, "user1");
+
+        // when & then
+        assertThatThrownBy(() -> queue.enqueue(TEMPLATE_ID, "user1"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("resultCode", CouponResultCode.ALREADY_ISSUED);
+        verify(couponTemplateRepository, times(1)).findByIdAndIsDeletedFalse(TEMPLATE_ID);
+    }
+
+    @Test
+    @DisplayName("남은 수량을 넘는 요청은 DB에 가지 않고 바로 매진")
+    void enqueue_BeyondRemaining_SoldOut() {
+        // given
+        given(couponTemplateRepository.findByIdAndIsDeletedFalse(TEMPLATE_ID)).willReturn(Optional.of(limitedTemplate(2)));
+        CouponIssueQueue queue = issueQueue(500, 60000);
+        queue.enqueue(TEMPLATE_ID, "user1");
+        queue.enqueue(TEMPLATE_ID, "user2");
+
+        // when & then
+        assertThatThrownBy(() -> queue.enqueue(TEMPLATE_ID, "user3"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("resultCode", CouponResultCode.COUPON_SOLD_OUT);
+        verifyNoInteractions(couponBatchIssuer);
+    }
+
+    @Test
+    @DisplayName("워커는 배치 크기 단위로 발급하고 티켓을 완료 처리")
+    void drain_IssuesInBatchesAndCompletesTickets() {
+        // given
+        given(couponTemplateRepository.findByIdAndIsDeletedFalse(TEMPLATE_ID)).willReturn(Optional.of(limitedTemplate(10)));
+        List<Integer> batchSizes = new ArrayList<>();
+        given(couponBatchIssuer.issue(eq(TEMPLATE_ID), anyList())).willAnswer(invocation -> {
+            List<CouponIssueTicket> batch = invocation.getArgument(1);
+            batchSizes.add(batch.size());
+            batch.forEach(ticket -> ticket.assign(CouponIssueStatus.ISSUED, null));
+            return batch.size();
+        });
+        CouponIssueQueue queue = issueQueue(2, 60000);
+        List<CouponIssueTicket> tickets = List.of(
+                queue.enqueue(TEMPLATE_ID, "user1"),
+                queue.enqueue(TEMPLATE_ID, "user2"),
+                queue.enqueue(TEMPLATE_ID, "user3"));
+
+        // when
+        queue.drain();
+
+        // then
+        assertThat(batchSizes).containsExactly(2, 1);
+        assertThat(tickets).allSatisfy(ticket -> {
+            assertThat(ticket.getStatus()).isEqualTo(CouponIssueStatus.ISSUED);
+            assertThat(ticket.getCompletion()).isDone();
+        });
+        assertThatThrownBy(() -> queue.enqueue(TEMPLATE_ID, "user1"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("resultCode", CouponResultCode.ALREADY_ISSUED);
+    }
+
+    @Test
+    @DisplayName("기간이 끝난 템플릿의 대기열은 비워진 뒤 제거")
+    void drain_EvictsExpiredTemplateQueue() {
+        // given
+        CouponTemplate template = limitedTemplate(10);
+        given(couponTemplateRepository.findByIdAndIsDeletedFalse(TEMPLATE_ID)).willReturn(Optional.of(template));
+        given(couponBatchIssuer.issue(eq(TEMPLATE_ID), anyList())).willReturn(1);
+        CouponIssueQueue queue = issueQueue(500, 60000);
+        CouponIssueTicket ticket = queue.enqueue(TEMPLATE_ID, "user1");
+        ReflectionTestUtils.setField(template, "finishedAt", LocalDateTime.now().minusSeconds(1));
+
+        // when
+        queue.drain();
+
+        // then: 대기중이던 티켓은 처리된 뒤 제거되고, 다음 요청은 템플릿을 다시 조회
+        assertThat(ticket.isCompleted()).isTrue();
+        assertThat(queuedTemplateIds(queue)).isEmpty();
+        assertThatThrownBy(() -> queue.enqueue(TEMPLATE_ID, "user2"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("resultCode", CouponResultCode.TEMPLATE_EXPIRED);
+        verify(couponTemplateRepository, times(2)).findByIdAndIsDeletedFalse(TEMPLATE_ID);
+    }
+
+    @Test
+    @DisplayName("요청이 끊긴 대기열은 사용자 목록과 함께 제거")
+    void drain_EvictsIdleQueue() throws InterruptedException {
+        // given
+        given(couponTemplateRepository.findByIdAndIsDeletedFalse(TEMPLATE_ID)).willReturn(Optional.of(limitedTemplate(1)));
+        given(couponBatchIssuer.issue(eq(TEMPLATE_ID), anyList())).willReturn(1);
+        CouponIssueQueue queue = issueQueue(500, 0);
+        queue.enqueue(TEMPLATE_ID, "user1");
+        Thread.sleep(5);
+
+        // when
+        queue.drain();
+
+        // then
+        assertThat(queuedTemplateIds(queue)).isEmpty();
+    }
+
+    private CouponIssueQueue issueQueue(int batchSize, long idleEvictMillis) {
+        return new CouponIssueQueue(couponTemplateRepository, couponBatchIssuer,
+                true, 100, batchSize, 600000L, 10000L, idleEvictMillis);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Long> queuedTemplateIds(CouponIssueQueue queue) {
+        return ((Map<Long, ?>) ReflectionTestUtils.getField(queue, "queues")).keySet();
+    }
+
+    private CouponTemplate limitedTemplate(int totalQuantity) {
+        CouponTemplate template = CouponTemplate.builder()
+                .title("선착순 쿠폰")
+                .discountType(DiscountType.FIXED_AMOUNT)
+                .discountValue(1000)
+                .startedAt(LocalDateTime.now().minusDays(1))
+                .finishedAt(LocalDateTime.now().plusDays(1))
+                .isLimited(true)
+                .totalQuantity(totalQuantity)
+                .build();
+        ReflectionTestUtils.setField(template, "id", TEMPLATE_ID);
+        return template;
+    }
+}
@@ -0,0 +1,96 @@
+package com.ecommerce.coupon.service;
+
+import com.ecommerce.coupon.domain.Coupon;
+import com.ecommerce.coupon.domain.CouponTemplate;
+import com.ecommerce.coupon.domain.DiscountType;
+import com.ecommerce.coupon.dto.CouponResponse;
+import com.ecommerce.coupon.repository.CouponRepository;
+import com.ecommerce.coupon.repository.CouponTemplateRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 쿠폰함 조회 쿼리 수 (H2 + Hibernate 통계로 실제 실행된 SQL 수를 센다)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class CouponServiceQueryCountTest {
+
+    private static final String USER_ID = "user1";
+
+    @Autowired
+    private CouponTemplateRepository couponTemplateRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private CouponService couponService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        couponService = new CouponService(couponTemplateRepository, couponRepository,
+                mock(CouponIssueEngine.class), mock(CouponIssuedCountReader.class), mock(CouponTemplateListCache.class),
+                new CouponTemplateCache(couponTemplateRepository, 60000L, 100));
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("쿠폰함 조회 - 쿠폰 수와 관계없이 쿠폰 조회 1번 + 템플릿 IN 조회 1번, 재조회는 쿠폰 조회만")
+    void getUserCoupons_TwoStatements() {
+        // given: 템플릿 3개, 쿠폰 30장
+        List<CouponTemplate> templates = List.of(template("쿠폰1"), template("쿠폰2"), template("쿠폰3"));
+        couponTemplateRepository.saveAll(templates);
+        for (int i = 0; i < 30; i++) {
+            couponRepository.save(new Coupon(templates.get(i % 3).getId(), USER_ID));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        List<CouponResponse> responses = couponService.getUserCoupons(USER_ID);
+
+        // then
+        assertThat(responses).hasSize(30);
+        assertThat(responses).extracting(CouponResponse::getTitle).containsOnly("쿠폰1", "쿠폰2", "쿠폰3");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        // when: 템플릿은 캐시에서
+        entityManager.clear();
+        statistics.clear();
+        couponService.getUserAvailableCoupons(USER_ID);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private CouponTemplate template(String title) {
+        return CouponTemplate.builder()
+                .title(title)
+                .discountType(DiscountType.FIXED_AMOUNT)
+                .discountValue(1000)
+                .startedAt(LocalDateTime.now().minusDays(1))
+                .finishedAt(LocalDateTime.now().plusDays(1))
+                .isLimited(false)
+                .build();
+    }
+}
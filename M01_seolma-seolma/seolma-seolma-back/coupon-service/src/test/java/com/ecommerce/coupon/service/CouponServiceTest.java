@@ -0,0 +1,125 @@
+package com.ecommerce.coupon.service;
+
+import com.ecommerce.coupon.domain.Coupon;
+import com.ecommerce.coupon.domain.CouponTemplate;
+import com.ecommerce.coupon.domain.DiscountType;
+import com.ecommerce.coupon.dto.CouponResponse;
+import com.ecommerce.coupon.repository.CouponRepository;
+import com.ecommerce.coupon.repository.CouponTemplateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponServiceTest {
+
+    private static final String USER_ID = "user1";
+
+    @Mock
+    private CouponTemplateRepository couponTemplateRepository;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @InjectMocks
+    private CouponService couponService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(couponService, "couponTemplateCache",
+                new CouponTemplateCache(couponTemplateRepository, 60000L, 100));
+    }
+
+    @Test
+    @DisplayName("쿠폰함 조회 - 쿠폰 수와 관계없이 템플릿은 findAllById 한 번으로 조회 (실제 SQL 수는 CouponServiceQueryCountTest)")
+    void getUserCoupons_BatchLoadTemplates() {
+        // given
+        List<Coupon> coupons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            coupons.add(coupon((long) (i % 3) + 1));
+        }
+        given(couponRepository.findByUserIdOrderByIssuedAtDesc(USER_ID)).willReturn(coupons);
+        given(couponTemplateRepository.findAllById(anyCollection()))
+                .willReturn(List.of(template(1L), template(2L), template(3L)));
+
+        // when
+        List<CouponResponse> responses = couponService.getUserCoupons(USER_ID);
+
+        // then
+        assertThat(responses).hasSize(300);
+        assertThat(responses).allSatisfy(response -> assertThat(response.getTitle()).isNotNull());
+        then(couponRepository).should(times(1)).findByUserIdOrderByIssuedAtDesc(USER_ID);
+        then(couponTemplateRepository).should(times(1)).findAllById(argThat(ids -> ((Collection<?>) ids).size() == 3));
+        then(couponTemplateRepository).should(never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("쿠폰함 재조회 - 캐시된 템플릿은 다시 조회하지 않음")
+    void getUserAvailableCoupons_UseTemplateCache() {
+        // given
+        List<Coupon> coupons = List.of(coupon(1L), coupon(2L));
+        given(couponRepository.findByUserIdAndIsUsedFalseOrderByIssuedAtDesc(USER_ID)).willReturn(coupons);
+        given(couponTemplateRepository.findAllById(anyCollection()))
+                .willReturn(List.of(template(1L), template(2L)));
+
+        // when
+        couponService.getUserAvailableCoupons(USER_ID);
+        List<CouponResponse> responses = couponService.getUserAvailableCoupons(USER_ID);
+
+        // then
+        assertThat(responses).extracting(CouponResponse::getTitle).containsOnly("쿠폰1", "쿠폰2");
+        then(couponRepository).should(times(2)).findByUserIdAndIsUsedFalseOrderByIssuedAtDesc(USER_ID);
+        then(couponTemplateRepository).should(times(1)).findAllById(anyCollection());
+    }
+
+    @Test
+    @DisplayName("쿠폰 상세 조회 - 캐시된 템플릿 사용")
+    void getCoupon_UseTemplateCache() {
+        // given
+        Coupon coupon = coupon(1L);
+        given(couponRepository.findByIdAndUserId(10L, USER_ID)).willReturn(Optional.of(coupon));
+        given(couponTemplateRepository.findAllById(anyCollection())).willReturn(List.of(template(1L)));
+
+        // when
+        couponService.getCoupon(10L, USER_ID);
+        CouponResponse response = couponService.getCoupon(10L, USER_ID);
+
+        // then
+        assertThat(response.getTitle()).isEqualTo("쿠폰1");
+        then(couponTemplateRepository).should(times(1)).findAllById(anyCollection());
+    }
+
+    private Coupon coupon(Long templateId) {
+        return Coupon.builder()
+                .templateId(templateId)
+                .userId(USER_ID)
+                .build();
+    }
+
+    private CouponTemplate template(Long templateId) {
+        CouponTemplate template = CouponTemplate.builder()
+                .title("쿠폰" + templateId)
+                .discountType(DiscountType.FIXED_AMOUNT)
+                .discountValue(1000)
+                .startedAt(LocalDateTime.now().minusDays(1))
+                .finishedAt(LocalDateTime.now().plusDays(1))
+                .build();
+        ReflectionTestUtils.setField(template, "id", templateId);
+        return template;
+    }
+}
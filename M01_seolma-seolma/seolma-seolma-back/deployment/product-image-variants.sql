@@ -0,0 +1,17 @@
+-- 상품 이미지 파생본(썸네일/축소본) 컬럼 추가
+-- 운영(ddl-auto: validate) DB에 애플리케이션 배포 전에 실행하세요.
+--
+-- 사용법: mysql -u <user> -p <db> < product-image-variants.sql
+
+ALTER TABLE product_images
+    ADD COLUMN thumbnail_url VARCHAR(500) NULL,
+    ADD COLUMN medium_url VARCHAR(500) NULL,
+    ADD COLUMN variant_status VARCHAR(20) NULL,
+    ADD COLUMN variant_attempts INT NULL DEFAULT 0,
+    ADD COLUMN variant_updated_at DATETIME(6) NULL;
+
+-- 기존 이미지는 variant_status가 NULL이며, 대기 상태로 취급되어 주기 점검에서 순차적으로 생성된다
+CREATE INDEX idx_product_images_variant_status ON product_images (variant_status, image_id);
+
+-- 목록 대표 이미지 조회용 (아직 없으면 함께 생성)
+CREATE INDEX IF NOT EXISTS idx_product_images_product_id_deleted ON product_images (product_id, is_deleted, image_id);
@@ -0,0 +1,18 @@
+-- 상품 검색 벤치마크용 더미 상품 100만 건 생성 (MariaDB Sequence 엔진 사용)
+-- 벤치마크 전용 DB에서만 실행하세요.
+--
+-- 사용법: mysql -u <user> -p <db> < product-search-seed.sql
+
+SET @words = '갤럭시,아이폰,케이스,필름,충전기,노트북,키보드,마우스,모니터,이어폰,스피커,가방,신발,셔츠,바지,울트라,프로,미니,블랙,화이트';
+
+INSERT INTO products (name, seller_id, price, is_deleted, created_at)
+SELECT CONCAT_WS(' ',
+           SUBSTRING_INDEX(SUBSTRING_INDEX(@words, ',', 1 + seq % 20), ',', -1),
+           SUBSTRING_INDEX(SUBSTRING_INDEX(@words, ',', 1 + (seq DIV 20) % 20), ',', -1),
+           SUBSTRING_INDEX(SUBSTRING_INDEX(@words, ',', 1 + (seq DIV 400) % 20), ',', -1),
+           seq),
+       CONCAT('bench-seller-', seq % 100),
+       1000 + (seq % 1000) * 100,
+       false,
+       NOW() - INTERVAL (1000000 - seq) SECOND
+FROM seq_1_to_1000000;
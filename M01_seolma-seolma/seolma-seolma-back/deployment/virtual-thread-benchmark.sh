@@ -0,0 +1,56 @@
+#!/bin/bash
+
+# 가상 스레드 / 플랫폼 스레드 처리량 비교 스크립트
+# 같은 Hikari 풀 크기로 두 모드를 각각 기동한 뒤 실행하고 결과 파일을 비교한다.
+#
+# 사용법: ./virtual-thread-benchmark.sh <URL> <모드 이름> [총 요청 수] [동시성 목록]
+# 예시:   ./virtual-thread-benchmark.sh http://localhost:8081/api/v1/coupons/templates/available virtual 20000 "50 200 800"
+# 인증이 필요한 API는 AUTH_TOKEN 환경변수로 토큰을 넘긴다.
+
+URL=$1
+MODE=$2
+REQUESTS=${3:-20000}
+CONCURRENCY_LIST=${4:-"50 200 800"}
+RESULT_DIR=${RESULT_DIR:-./benchmark-results}
+
+if [ -z "$URL" ] || [ -z "$MODE" ]; then
+    echo "사용법: $0 <URL> <모드 이름> [총 요청 수] [동시성 목록]"
+    exit 1
+fi
+
+if ! command -v ab > /dev/null; then
+    echo "ApacheBench(ab)가 필요합니다: sudo yum install -y httpd-tools"
+    exit 1
+fi
+
+mkdir -p "$RESULT_DIR"
+RESULT_FILE="$RESULT_DIR/$MODE-$(date +%Y%m%d-%H%M%S).txt"
+
+AUTH_OPTION=()
+if [ -n "$AUTH_TOKEN" ]; then
+    AUTH_OPTION=(-H "Authorization: Bearer $AUTH_TOKEN")
+fi
+
+echo "=== 벤치마크 시작: mode=$MODE, url=$URL ===" | tee "$RESULT_FILE"
+echo "시간: $(date)" | tee -a "$RESULT_FILE"
+
+# 워밍업 (JIT, 커넥션 풀)
+ab -q -n 1000 -c 20 "${AUTH_OPTION[@]}" "$URL" > /dev/null 2>&1
+
+for CONCURRENCY in $CONCURRENCY_LIST; do
+    echo | tee -a "$RESULT_FILE"
+    echo "📊 동시성 $CONCURRENCY (요청 $REQUESTS건)" | tee -a "$RESULT_FILE"
+    ab -q -n "$REQUESTS" -c "$CONCURRENCY" "${AUTH_OPTION[@]}" "$URL" 2>&1 \
+        | grep -E "Requests per second|Time per request:.*\(mean\)|Failed requests|Non-2xx|  50%|  99%" \
+        | tee -a "$RESULT_FILE"
+done
+
+# 실행 중 스레드 수 (Tomcat 프로세스)
+TOMCAT_PID=$(pgrep -f catalina | head -1)
+if [ -n "$TOMCAT_PID" ]; then
+    echo | tee -a "$RESULT_FILE"
+    echo "🧵 플랫폼 스레드 수: $(ls /proc/$TOMCAT_PID/task | wc -l)" | tee -a "$RESULT_FILE"
+fi
+
+echo | tee -a "$RESULT_FILE"
+echo "=== 벤치마크 완료: $RESULT_FILE ==="
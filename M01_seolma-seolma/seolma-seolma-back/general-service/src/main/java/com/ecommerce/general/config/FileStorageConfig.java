@@ -3,11 +3,13 @@ package com.ecommerce.general.config;
 import com.ecommerce.product.service.FileStorageService;
 import com.ecommerce.product.service.LocalFileStorageService;
 import com.ecommerce.product.service.S3FileStorageService;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.services.s3.S3Client;
 
+@Slf4j
 @Configuration
 public class FileStorageConfig {
     
@@ -16,17 +18,12 @@ public class FileStorageConfig {
     
     @Bean
     public FileStorageService fileStorageService(S3Client s3Client) {
-        System.out.println("=== FileStorageConfig DEBUG ===");
-        System.out.println("Storage Type: " + storageType);
-        System.out.println("FILE_STORAGE_TYPE env: " + System.getenv("FILE_STORAGE_TYPE"));
-        System.out.println("================================");
-        
         if ("s3".equalsIgnoreCase(storageType)) {
-            System.out.println("Using S3FileStorageService");
+            log.info("File storage: S3FileStorageService (file.storage.type={})", storageType);
             return new S3FileStorageService(s3Client);
         } else {
-            System.out.println("Using LocalFileStorageService");
+            log.info("File storage: LocalFileStorageService (file.storage.type={})", storageType);
             return new LocalFileStorageService();
         }
     }
-}
\ No newline at end of file
+}
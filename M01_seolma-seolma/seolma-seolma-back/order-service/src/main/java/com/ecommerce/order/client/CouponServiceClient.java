@@ -1,62 +1,92 @@
 package com.ecommerce.order.client;
 
-import lombok.RequiredArgsConstructor;
+import com.ecommerce.common.exception.BusinessException;
+import com.ecommerce.common.response.ApiResponse;
+import com.ecommerce.order.exception.OrderResultCode;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class CouponServiceClient {
     
-    private final WebClient.Builder webClientBuilder;
+    private final WebClient webClient;
+    private final DownstreamCallGuard callGuard;
     
-    @Value("${external.services.coupon-service.url}")
-    private String couponServiceUrl;
-    
-    public void useCoupon(Long couponId, String userId) {
-        try {
-            webClientBuilder.build()
-                    .patch()
-                    .uri(couponServiceUrl + "/internal/v1/coupons/{couponId}/use", couponId)
-                    .header("X-User-Id", userId)
-                    .retrieve()
-                    .bodyToMono(Void.class)
-                    .block();
-        } catch (Exception e) {
-            log.error("Failed to use coupon: couponId={}, userId={}", couponId, userId, e);
-            throw new RuntimeException("쿠폰 사용 실패", e);
-        }
+    public CouponServiceClient(@Qualifier("couponServiceWebClient") WebClient webClient,
+                               @Qualifier("couponServiceCallGuard") DownstreamCallGuard callGuard) {
+        this.webClient = webClient;
+        this.callGuard = callGuard;
     }
     
-    public CouponInfo getCouponInfo(Long couponId, String userId) {
+    /**
+     * 쿠폰 사용 처리 후 할인 정보 반환 (사용 + 조회를 한 번의 호출로 처리)
+     */
+    public CouponInfo redeemCoupon(Long couponId, String userId) {
         try {
-            log.debug("Requesting coupon info: couponId={}, userId={}, url={}", couponId, userId, couponServiceUrl);
-            
-            com.ecommerce.common.response.ApiResponse<CouponResponse> response = webClientBuilder.build()
-                    .get()
-                    .uri(couponServiceUrl + "/internal/v1/coupons/{couponId}", couponId)
+            ApiResponse<CouponResponse> response = callGuard.call(() -> webClient
+                    .patch()
+                    .uri("/internal/v1/coupons/{couponId}/redeem", couponId)
                     .header("X-User-Id", userId)
                     .retrieve()
-                    .bodyToMono(new org.springframework.core.ParameterizedTypeReference<com.ecommerce.common.response.ApiResponse<CouponResponse>>() {})
-                    .block();
+                    .bodyToMono(new ParameterizedTypeReference<ApiResponse<CouponResponse>>() {})
+                    .block());
             
             if (response == null || response.getData() == null) {
                 log.error("Empty response from coupon service: couponId={}", couponId);
-                throw new RuntimeException("쿠폰 정보를 찾을 수 없습니다");
+                throw new BusinessException(OrderResultCode.COUPON_USE_FAILED);
             }
             
             CouponResponse couponData = response.getData();
-            log.debug("Successfully retrieved coupon info: couponId={}, discountType={}, discountValue={}", 
+            log.debug("Coupon redeemed: couponId={}, discountType={}, discountValue={}", 
                     couponId, couponData.getDiscountType(), couponData.getDiscountValue());
             
             return new CouponInfo(couponData.getDiscountType(), couponData.getDiscountValue());
         } catch (Exception e) {
-            log.error("Failed to get coupon info: couponId={}, userId={}", couponId, userId, e);
-            throw new RuntimeException("쿠폰 정보 조회 실패", e);
+            log.error("Failed to redeem coupon: couponId={}, userId={}", couponId, userId, e);
+            throw toBusinessException(e, OrderResultCode.COUPON_USE_FAILED);
+        }
+    }
+    
+    /**
+     * 쿠폰 사용 취소 (주문 생성 실패 시 보상 처리)
+     * 사용된 쿠폰만 되돌리는 조건부 처리라 여러 번 호출해도 안전하므로 재시도한다.
+     */
+    public void releaseCoupon(Long couponId, String userId) {
+        try {
+            callGuard.callWithRetry(() -> webClient
+                    .patch()
+                    .uri("/internal/v1/coupons/{couponId}/release", couponId)
+                    .header("X-User-Id", userId)
+                    .retrieve()
+                    .bodyToMono(Void.class)
+                    .block());
+        } catch (Exception e) {
+            log.error("Failed to release coupon: couponId={}, userId={}", couponId, userId, e);
+            throw toBusinessException(e, OrderResultCode.COUPON_USE_FAILED);
+        }
+    }
+    
+    /**
+     * 호출 실패를 주문 응답 코드로 변환
+     * 4xx 응답은 요청한 쿠폰의 문제, 그 외(서킷 열림, 타임아웃, 5xx)는 쿠폰 서비스 장애로 본다.
+     */
+    private BusinessException toBusinessException(Exception e, OrderResultCode clientErrorCode) {
+        if (e instanceof BusinessException businessException) {
+            return businessException;
+        }
+        if (e instanceof BulkheadFullException) {
+            return new BusinessException(OrderResultCode.EXTERNAL_SERVICE_BUSY, e);
+        }
+        if (e instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError()) {
+            return new BusinessException(clientErrorCode, e);
         }
+        return new BusinessException(OrderResultCode.COUPON_SERVICE_UNAVAILABLE, e);
     }
     
     // Inner class for coupon response from coupon service
@@ -0,0 +1,166 @@
+package com.ecommerce.order.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 외부 서비스 한 곳에 대한 호출 보호
+ *
+ * 벌크헤드(동시 호출 수 제한) → 서킷 브레이커 → 실제 호출 순으로 감싼다.
+ * - 벌크헤드가 가득 차면 기다리지 않고 BulkheadFullException
+ * - 서킷이 열려 있으면 호출하지 않고 CallNotPermittedException (대기 시간이 지나면 일부 호출만 흘려 보내 상태 확인)
+ * - 재시도는 멱등한 조회(GET)에만 사용하며, 재시도 예산(일반 호출 대비 비율)을 넘으면 바로 실패
+ *
+ * 4xx 응답은 비즈니스 오류이므로 서킷 브레이커 실패로 집계하지 않는다.
+ */
+@Slf4j
+public class DownstreamCallGuard {
+
+    private final String serviceName;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final int maxAttempts;
+    private final Duration retryWait;
+    private final RetryBudget retryBudget;
+    private final Counter retryCounter;
+    private final Counter retryBudgetRejectedCounter;
+
+    public DownstreamCallGuard(String serviceName,
+                               CircuitBreaker circuitBreaker,
+                               Bulkhead bulkhead,
+                               int maxAttempts,
+                               Duration retryWait,
+                               double retryBudgetRatio,
+                               int retryBudgetMax,
+                               MeterRegistry meterRegistry) {
+        this.serviceName = serviceName;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryWait = retryWait;
+        this.retryBudget = new RetryBudget(retryBudgetRatio, retryBudgetMax);
+        this.retryCounter = Counter.builder("order.downstream.retries")
+                .tag("service", serviceName)
+                .register(meterRegistry);
+        this.retryBudgetRejectedCounter = Counter.builder("order.downstream.retry.budget.rejected")
+                .tag("service", serviceName)
+                .register(meterRegistry);
+        Gauge.builder("order.downstream.retry.budget", retryBudget, RetryBudget::available)
+                .tag("service", serviceName)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재시도 없이 호출 (상태를 바꾸는 요청)
+     */
+    public <T> T call(Supplier<T> supplier) {
+        retryBudget.deposit();
+        return execute(supplier);
+    }
+
+    /**
+     * 멱등한 요청만 사용 (일시적인 오류일 때 예산 안에서 재시도)
+     */
+    public <T> T callWithRetry(Supplier<T> supplier) {
+        retryBudget.deposit();
+        int attempt = 1;
+        while (true) {
+            try {
+                return execute(supplier);
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+                if (!retryBudget.withdraw()) {
+                    retryBudgetRejectedCounter.increment();
+                    throw e;
+                }
+                retryCounter.increment();
+                log.warn("Retrying {} call: attempt={}, cause={}", serviceName, attempt + 1, e.toString());
+                sleepBeforeRetry(e);
+                attempt++;
+            }
+        }
+    }
+
+    /**
+     * 서킷 브레이커 실패로 집계할 예외 (4xx 응답 제외)
+     */
+    public static boolean isFailure(Throwable e) {
+        return !(e instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError());
+    }
+
+    private <T> T execute(Supplier<T> supplier) {
+        return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, supplier)).get();
+    }
+
+    private boolean isRetryable(RuntimeException e) {
+        // 연결 실패, 응답 타임아웃
+        if (e instanceof WebClientRequestException) {
+            return true;
+        }
+        if (e instanceof WebClientResponseException response) {
+            int status = response.getStatusCode().value();
+            return status == 502 || status == 503 || status == 504;
+        }
+        return false;
+    }
+
+    private void sleepBeforeRetry(RuntimeException cause) {
+        try {
+            Thread.sleep(retryWait.toMillis());
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    /**
+     * 재시도 예산
+     * 일반 호출마다 ratio 만큼 적립하고 재시도마다 1씩 사용한다. (최대 max 까지 적립)
+     * 장애 상황에서 재시도가 호출량을 몇 배로 늘리지 않도록 제한한다.
+     */
+    private static final class RetryBudget {
+
+        private static final long UNIT = 1000;
+
+        private final long depositPerCall;
+        private final long maxTokens;
+        private final AtomicLong tokens;
+
+        private RetryBudget(double ratio, int max) {
+            this.depositPerCall = Math.round(ratio * UNIT);
+            this.maxTokens = (long) max * UNIT;
+            this.tokens = new AtomicLong(maxTokens);
+        }
+
+        void deposit() {
+            tokens.accumulateAndGet(depositPerCall, (current, amount) -> Math.min(maxTokens, current + amount));
+        }
+
+        boolean withdraw() {
+            long current;
+            do {
+                current = tokens.get();
+                if (current < UNIT) {
+                    return false;
+                }
+            } while (!tokens.compareAndSet(current, current - UNIT));
+            return true;
+        }
+
+        double available() {
+            return (double) tokens.get() / UNIT;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.ecommerce.order.client;
+
+import com.ecommerce.common.event.ProductCacheInvalidationChannel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 주문용 상품 정보(이름, 가격) 캐시 (프로세스 내)
+ *
+ * 주문 생성 시 자주 주문되는 상품은 상품 서비스를 호출하지 않도록 한다.
+ * 상품이 바뀌면 상품 캐시 무효화 채널(ProductCacheInvalidationChannel)로 받은 상품 ID를 제거하며
+ * (다른 노드에서 바뀐 상품도 같은 경로로 제거됨), TTL은 신호를 받지 못한 경우의 최대 지연 시간이다.
+ */
+@Slf4j
+@Component
+public class ProductInfoCache {
+
+    private final long ttlMillis;
+    private final int maxSize;
+
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    // 무효화 확인과 저장을 한 번에 처리 (확인 직후 무효화되어 변경 전 정보가 저장되지 않도록)
+    private final ReentrantLock lock = new ReentrantLock();
+    // 조회 중에 무효화가 일어났는지 확인하기 위한 값 (변경 전 정보를 다시 캐시하지 않도록)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ProductInfoCache(ProductCacheInvalidationChannel invalidationChannel,
+                            @Value("${order.product-cache.ttl-ms:60000}") long ttlMillis,
+                            @Value("${order.product-cache.max-size:10000}") int maxSize) {
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+        invalidationChannel.subscribe(this::evict);
+    }
+
+    public ProductServiceClient.ProductInfo get(Long productId, Function<Long, ProductServiceClient.ProductInfo> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(productId);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.productInfo;
+        }
+
+        long invalidationsBeforeLoad = invalidations.get();
+        ProductServiceClient.ProductInfo productInfo = loader.apply(productId);
+        if (productInfo != null) {
+            lock.lock();
+            try {
+                if (invalidations.get() == invalidationsBeforeLoad) {
+                    put(productId, productInfo, now);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return productInfo;
+    }
+
+    public void evict(Long productId) {
+        lock.lock();
+        try {
+            invalidations.incrementAndGet();
+            entries.remove(productId);
+        } finally {
+            lock.unlock();
+        }
+        log.debug("Product info cache evicted: productId={}", productId);
+    }
+
+    private void put(Long productId, ProductServiceClient.ProductInfo productInfo, long now) {
+        if (entries.size() >= maxSize) {
+            // 만료된 항목만 정리하고, 그래도 가득 차 있으면 새 항목은 캐시하지 않는다 (이미 캐시된 인기 상품 유지)
+            entries.values().removeIf(entry -> entry.expiresAt <= now);
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+        entries.put(productId, new Entry(productInfo, now + ttlMillis));
+    }
+
+    private static final class Entry {
+
+        private final ProductServiceClient.ProductInfo productInfo;
+        private final long expiresAt;
+
+        private Entry(ProductServiceClient.ProductInfo productInfo, long expiresAt) {
+            this.productInfo = productInfo;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,67 +1,116 @@
 package com.ecommerce.order.client;
 
+import com.ecommerce.common.exception.BusinessException;
 import com.ecommerce.common.response.ApiResponse;
-import lombok.RequiredArgsConstructor;
+import com.ecommerce.common.response.CommonResultCode;
+import com.ecommerce.common.response.ResultCode;
+import com.ecommerce.order.exception.OrderResultCode;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.math.BigDecimal;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ProductServiceClient {
     
-    private final WebClient.Builder webClientBuilder;
+    private final WebClient webClient;
+    private final DownstreamCallGuard callGuard;
+    private final ProductInfoCache productInfoCache;
     
-    @Value("${external.services.product-service.url}")
-    private String productServiceUrl;
+    public ProductServiceClient(@Qualifier("productServiceWebClient") WebClient webClient,
+                                @Qualifier("productServiceCallGuard") DownstreamCallGuard callGuard,
+                                ProductInfoCache productInfoCache) {
+        this.webClient = webClient;
+        this.callGuard = callGuard;
+        this.productInfoCache = productInfoCache;
+    }
     
+    /**
+     * 상품 정보 조회 (캐시에 있으면 상품 서비스를 호출하지 않음)
+     */
     public ProductInfo getProductInfo(Long productId) {
         if (productId == null || productId <= 0) {
             log.error("Invalid productId: {}", productId);
-            throw new IllegalArgumentException("유효하지 않은 상품 ID입니다: " + productId);
+            throw new BusinessException(OrderResultCode.INVALID_PRODUCT_ID);
         }
         
+        ProductInfo productInfo = productInfoCache.get(productId, this::fetchProductInfo);
+        if (Boolean.TRUE.equals(productInfo.getIsDeleted())) {
+            log.error("Product deleted: productId={}", productId);
+            throw new BusinessException(OrderResultCode.PRODUCT_NOT_FOUND);
+        }
+        return productInfo;
+    }
+    
+    private ProductInfo fetchProductInfo(Long productId) {
         try {
-            log.debug("Requesting product info: productId={}, url={}", productId, productServiceUrl);
+            log.debug("Requesting product info: productId={}", productId);
             
-            ApiResponse<ProductInfo> response = webClientBuilder.build()
+            // 이미지 없이 이름, 가격만 조회하는 요약 API 사용 (멱등하므로 일시적인 오류에 한해 재시도)
+            ApiResponse<ProductInfo> response = callGuard.callWithRetry(() -> webClient
                     .get()
-                    .uri(productServiceUrl + "/api/v1/internal/products/{productId}", productId)
+                    .uri("/api/v1/internal/products/{productId}/summary", productId)
                     .retrieve()
                     .bodyToMono(new ParameterizedTypeReference<ApiResponse<ProductInfo>>() {})
-                    .block();
+                    .block());
             
             if (response == null || response.getData() == null) {
                 log.error("Empty response from product service: productId={}", productId);
-                throw new RuntimeException("상품 정보를 찾을 수 없습니다");
+                throw new BusinessException(OrderResultCode.PRODUCT_NOT_FOUND);
             }
             
             log.debug("Successfully retrieved product info: productId={}, name={}", 
                     productId, response.getData().getName());
             
             return response.getData();
-        } catch (org.springframework.web.reactive.function.client.WebClientResponseException.BadRequest e) {
-            log.error("Bad request to product service: productId={}, status={}, body={}", 
-                    productId, e.getStatusCode(), e.getResponseBodyAsString());
-            throw new IllegalArgumentException("존재하지 않는 상품입니다: " + productId);
-        } catch (org.springframework.web.reactive.function.client.WebClientResponseException.NotFound e) {
-            log.error("Product not found: productId={}", productId);
-            throw new IllegalArgumentException("존재하지 않는 상품입니다: " + productId);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (WebClientResponseException e) {
+            if (e.getStatusCode().is4xxClientError()) {
+                log.error("Product service rejected request: productId={}, status={}, body={}", 
+                        productId, e.getStatusCode(), e.getResponseBodyAsString());
+                throw new BusinessException(toClientErrorCode(e.getStatusCode().value()), e);
+            }
+            log.error("Product service error: productId={}, status={}", productId, e.getStatusCode());
+            throw new BusinessException(OrderResultCode.PRODUCT_SERVICE_UNAVAILABLE, e);
+        } catch (CallNotPermittedException e) {
+            log.warn("Product service circuit open, fast fail: productId={}", productId);
+            throw new BusinessException(OrderResultCode.PRODUCT_SERVICE_UNAVAILABLE, e);
+        } catch (BulkheadFullException e) {
+            log.warn("Product service bulkhead full, fast fail: productId={}", productId);
+            throw new BusinessException(OrderResultCode.EXTERNAL_SERVICE_BUSY, e);
         } catch (Exception e) {
             log.error("Failed to get product info: productId={}", productId, e);
-            throw new RuntimeException("상품 정보 조회 중 오류가 발생했습니다", e);
+            throw new BusinessException(OrderResultCode.PRODUCT_SERVICE_UNAVAILABLE, e);
         }
     }
     
+    /**
+     * 상품 서비스의 4xx 응답을 주문 응답 코드로 변환
+     * 404만 상품 없음으로 보고, 인증/권한/요청 제한은 그대로 구분해서 알린다.
+     */
+    private ResultCode toClientErrorCode(int status) {
+        return switch (status) {
+            case 404 -> OrderResultCode.PRODUCT_NOT_FOUND;
+            case 401 -> CommonResultCode.UNAUTHORIZED;
+            case 403 -> CommonResultCode.FORBIDDEN;
+            case 429 -> OrderResultCode.EXTERNAL_SERVICE_BUSY;
+            default -> CommonResultCode.EXTERNAL_API_ERROR;
+        };
+    }
+    
     // Inner classes - ApiResponseWrapper 제거
     public static class ProductInfo {
         private String name;
         private BigDecimal price;
+        private Boolean isDeleted;
         
         public String getName() {
             return name;
@@ -78,5 +127,13 @@ public class ProductServiceClient {
         public void setPrice(BigDecimal price) {
             this.price = price;
         }
+        
+        public Boolean getIsDeleted() {
+            return isDeleted;
+        }
+        
+        public void setIsDeleted(Boolean isDeleted) {
+            this.isDeleted = isDeleted;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.ecommerce.order.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class OrderExecutorConfig {
+    
+    /**
+     * 주문 생성 시 외부 서비스 병렬 호출용
+     * 가상 스레드 모드(spring.threads.virtual.enabled)이면 요청마다 가상 스레드를 만들고,
+     * 아니면 크기가 제한된 플랫폼 스레드 풀을 사용한다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService orderFanOutExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled,
+            @Value("${order.fan-out.pool-size:50}") int poolSize) {
+        if (virtualThreadsEnabled) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("order-fanout-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("order-fanout-"));
+    }
+}
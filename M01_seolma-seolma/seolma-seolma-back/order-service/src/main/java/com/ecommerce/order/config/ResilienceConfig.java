@@ -0,0 +1,97 @@
+package com.ecommerce.order.config;
+
+import com.ecommerce.order.client.DownstreamCallGuard;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+import static com.ecommerce.order.config.WebClientConfig.COUPON_SERVICE;
+import static com.ecommerce.order.config.WebClientConfig.PRODUCT_SERVICE;
+
+/**
+ * 외부 서비스 호출 보호 설정 (서킷 브레이커, 벌크헤드, 재시도)
+ *
+ * 서비스별 설정은 external.services.{서비스명}.circuit-breaker.* / bulkhead.* / retry.* 로 지정한다.
+ * 상태는 resilience4j.circuitbreaker.* / resilience4j.bulkhead.* 메트릭으로 노출된다.
+ */
+@Slf4j
+@Configuration
+public class ResilienceConfig {
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+
+    public ResilienceConfig(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    @Bean
+    public DownstreamCallGuard productServiceCallGuard() {
+        return createCallGuard(PRODUCT_SERVICE);
+    }
+
+    @Bean
+    public DownstreamCallGuard couponServiceCallGuard() {
+        return createCallGuard(COUPON_SERVICE);
+    }
+
+    private DownstreamCallGuard createCallGuard(String serviceName) {
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(intProperty(serviceName, "circuit-breaker.sliding-window-size", 50))
+                .minimumNumberOfCalls(intProperty(serviceName, "circuit-breaker.minimum-number-of-calls", 20))
+                .failureRateThreshold(intProperty(serviceName, "circuit-breaker.failure-rate-threshold", 50))
+                .slowCallDurationThreshold(durationProperty(serviceName, "circuit-breaker.slow-call-duration-ms", 2000))
+                .slowCallRateThreshold(intProperty(serviceName, "circuit-breaker.slow-call-rate-threshold", 80))
+                .waitDurationInOpenState(durationProperty(serviceName, "circuit-breaker.wait-in-open-ms", 10000))
+                .permittedNumberOfCallsInHalfOpenState(intProperty(serviceName, "circuit-breaker.half-open-calls", 5))
+                .recordException(DownstreamCallGuard::isFailure)
+                .build();
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(serviceName, circuitBreakerConfig);
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Circuit breaker state changed: service={}, transition={}",
+                        serviceName, event.getStateTransition()));
+
+        BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(intProperty(serviceName, "bulkhead.max-concurrent-calls", 30))
+                .maxWaitDuration(durationProperty(serviceName, "bulkhead.max-wait-ms", 0))
+                .build();
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(serviceName, bulkheadConfig);
+
+        return new DownstreamCallGuard(serviceName, circuitBreaker, bulkhead,
+                intProperty(serviceName, "retry.max-attempts", 2),
+                durationProperty(serviceName, "retry.wait-ms", 100),
+                environment.getProperty(key(serviceName, "retry.budget-ratio"), Double.class, 0.1),
+                intProperty(serviceName, "retry.budget-max", 10),
+                meterRegistry);
+    }
+
+    private int intProperty(String serviceName, String name, int defaultValue) {
+        return environment.getProperty(key(serviceName, name), Integer.class, defaultValue);
+    }
+
+    private Duration durationProperty(String serviceName, String name, long defaultMillis) {
+        return Duration.ofMillis(environment.getProperty(key(serviceName, name), Long.class, defaultMillis));
+    }
+
+    private String key(String serviceName, String name) {
+        return "external.services." + serviceName + "." + name;
+    }
+}
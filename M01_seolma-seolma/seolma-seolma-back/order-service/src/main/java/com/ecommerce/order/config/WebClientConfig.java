@@ -0,0 +1,118 @@
+package com.ecommerce.order.config;
+
+import com.ecommerce.common.security.InternalRequestSigner;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 외부 서비스 호출용 WebClient 설정
+ *
+ * 서비스별로 미리 만들어 둔 WebClient를 재사용한다. (요청마다 build() 하지 않음)
+ * 커넥션 풀과 타임아웃은 external.services.{서비스명}.* 로 설정하며,
+ * 풀 사용량은 reactor.netty.connection.provider.* 메트릭으로 노출된다.
+ * 모든 요청에 내부 호출 서명(X-Internal-Auth)을 붙인다.
+ */
+@Slf4j
+@Configuration
+public class WebClientConfig implements DisposableBean {
+
+    public static final String PRODUCT_SERVICE = "product-service";
+    public static final String COUPON_SERVICE = "coupon-service";
+
+    private final Environment environment;
+    private final InternalRequestSigner internalRequestSigner;
+    private final List<ConnectionProvider> connectionProviders = new CopyOnWriteArrayList<>();
+
+    public WebClientConfig(Environment environment, InternalRequestSigner internalRequestSigner) {
+        this.environment = environment;
+        this.internalRequestSigner = internalRequestSigner;
+    }
+
+    @Bean
+    public WebClient productServiceWebClient(WebClient.Builder webClientBuilder) {
+        return createWebClient(webClientBuilder, PRODUCT_SERVICE);
+    }
+
+    @Bean
+    public WebClient couponServiceWebClient(WebClient.Builder webClientBuilder) {
+        return createWebClient(webClientBuilder, COUPON_SERVICE);
+    }
+
+    @Override
+    public void destroy() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
+    }
+
+    private WebClient createWebClient(WebClient.Builder webClientBuilder, String serviceName) {
+        String url = environment.getRequiredProperty(key(serviceName, "url"));
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(serviceName)
+                .maxConnections(intProperty(serviceName, "max-connections", 50))
+                .pendingAcquireMaxCount(intProperty(serviceName, "pending-acquire-max-count", 200))
+                .pendingAcquireTimeout(durationProperty(serviceName, "pending-acquire-timeout-ms", 1000))
+                .maxIdleTime(durationProperty(serviceName, "max-idle-time-ms", 30000))
+                .maxLifeTime(durationProperty(serviceName, "max-life-time-ms", 300000))
+                .evictInBackground(durationProperty(serviceName, "evict-interval-ms", 30000))
+                .metrics(true)
+                .build();
+        connectionProviders.add(connectionProvider);
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, intProperty(serviceName, "connect-timeout-ms", 1000))
+                .responseTimeout(durationProperty(serviceName, "response-timeout-ms", 3000))
+                .keepAlive(true)
+                // URI별 태그를 만들지 않도록 서비스명으로 고정 (카디널리티 제한)
+                .metrics(true, uri -> serviceName);
+
+        log.info("WebClient created: service={}, url={}, maxConnections={}",
+                serviceName, url, intProperty(serviceName, "max-connections", 50));
+
+        return webClientBuilder.clone()
+                .baseUrl(url)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(internalAuthFilter())
+                .build();
+    }
+
+    /**
+     * 최종 요청(메서드, 경로, X-User-Id)에 대한 서명 헤더 추가 (재시도 시에도 다시 서명됨)
+     */
+    private ExchangeFilterFunction internalAuthFilter() {
+        return (request, next) -> {
+            URI url = request.url();
+            String pathAndQuery = url.getRawQuery() != null ? url.getRawPath() + "?" + url.getRawQuery() : url.getRawPath();
+            String signature = internalRequestSigner.sign(request.method().name(), pathAndQuery,
+                    request.headers().getFirst(InternalRequestSigner.USER_ID_HEADER));
+            return next.exchange(ClientRequest.from(request)
+                    .header(InternalRequestSigner.HEADER, signature)
+                    .build());
+        };
+    }
+
+    private int intProperty(String serviceName, String name, int defaultValue) {
+        return environment.getProperty(key(serviceName, name), Integer.class, defaultValue);
+    }
+
+    private Duration durationProperty(String serviceName, String name, long defaultMillis) {
+        return Duration.ofMillis(environment.getProperty(key(serviceName, name), Long.class, defaultMillis));
+    }
+
+    private String key(String serviceName, String name) {
+        return "external.services." + serviceName + "." + name;
+    }
+}
@@ -21,7 +21,10 @@ public enum OrderResultCode implements ResultCode {
     INVALID_PRODUCT_ID("O1006", "유효하지 않은 상품 ID입니다"),
     INVALID_QUANTITY("O1007", "유효하지 않은 주문 수량입니다"),
     INVALID_COUPON_ID("O1008", "유효하지 않은 쿠폰 ID입니다"),
-    PAYMENT_FAILED("O1009", "결제 처리에 실패했습니다");
+    PAYMENT_FAILED("O1009", "결제 처리에 실패했습니다"),
+    PRODUCT_SERVICE_UNAVAILABLE("O1010", "상품 서비스를 일시적으로 사용할 수 없습니다"),
+    COUPON_SERVICE_UNAVAILABLE("O1011", "쿠폰 서비스를 일시적으로 사용할 수 없습니다"),
+    EXTERNAL_SERVICE_BUSY("O1012", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
 
     private final String code;
     private final String message;
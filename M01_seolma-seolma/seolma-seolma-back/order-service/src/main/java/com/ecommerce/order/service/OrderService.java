@@ -17,9 +17,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 
 @Slf4j
 @Service
@@ -30,6 +35,7 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final ProductServiceClient productServiceClient;
     private final CouponServiceClient couponServiceClient;
+    private final ExecutorService orderFanOutExecutor;
     
     /**
      * 주문 생성
@@ -39,16 +45,32 @@ public class OrderService {
         // 0. 입력값 검증
         validateOrderRequest(request);
         
-        // 1. 상품 정보 조회
-        ProductServiceClient.ProductInfo productInfo = productServiceClient.getProductInfo(request.getProductId());
+        // 1. 상품 정보 조회 (쿠폰 처리와 병렬로 실행)
+        CompletableFuture<ProductServiceClient.ProductInfo> productFuture = CompletableFuture.supplyAsync(
+                () -> productServiceClient.getProductInfo(request.getProductId()), orderFanOutExecutor);
         
-        // 2. 쿠폰 사용 처리
+        // 2. 쿠폰 사용 처리 (할인 정보도 함께 반환)
+        CouponServiceClient.CouponInfo couponInfo = null;
         if (request.getAppliedCouponId() != null) {
-            couponServiceClient.useCoupon(request.getAppliedCouponId(), userId);
+            try {
+                couponInfo = couponServiceClient.redeemCoupon(request.getAppliedCouponId(), userId);
+            } catch (RuntimeException e) {
+                productFuture.cancel(true);
+                // 타임아웃, 5xx 등은 쿠폰 서비스에서 이미 사용 처리됐을 수 있으므로 사용 취소 (4xx는 다른 주문의 사용을 되돌릴 수 있어 제외)
+                if (e instanceof BusinessException businessException
+                        && businessException.getResultCode() == OrderResultCode.COUPON_SERVICE_UNAVAILABLE) {
+                    releaseCoupon(request.getAppliedCouponId(), userId);
+                }
+                throw e;
+            }
+            // 이후 단계(상품 조회, 주문 저장)에서 실패해 롤백되면 쿠폰 사용 취소
+            releaseCouponOnRollback(request.getAppliedCouponId(), userId);
         }
         
+        ProductServiceClient.ProductInfo productInfo = joinProductInfo(productFuture);
+        
         // 3. 총 금액 계산
-        BigDecimal totalPrice = calculateTotalPrice(productInfo.getPrice(), request.getQuantity(), request.getAppliedCouponId(), userId);
+        BigDecimal totalPrice = calculateTotalPrice(productInfo.getPrice(), request.getQuantity(), couponInfo);
         
         // 4. 주문 생성
         Order order = Order.builder()
@@ -123,13 +145,44 @@ public class OrderService {
     }
     
     // Private helper methods
-    private BigDecimal calculateTotalPrice(BigDecimal productPrice, Integer quantity, Long couponId, String userId) {
+    private ProductServiceClient.ProductInfo joinProductInfo(CompletableFuture<ProductServiceClient.ProductInfo> productFuture) {
+        try {
+            return productFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    private void releaseCouponOnRollback(Long couponId, String userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    releaseCoupon(couponId, userId);
+                }
+            }
+        });
+    }
+    
+    private void releaseCoupon(Long couponId, String userId) {
+        try {
+            couponServiceClient.releaseCoupon(couponId, userId);
+        } catch (RuntimeException e) {
+            log.error("Coupon release after order failure failed: couponId={}, userId={}", couponId, userId, e);
+        }
+    }
+    
+    private BigDecimal calculateTotalPrice(BigDecimal productPrice, Integer quantity, CouponServiceClient.CouponInfo couponInfo) {
         BigDecimal totalPrice = productPrice.multiply(BigDecimal.valueOf(quantity));
         
         // 쿠폰 할인 적용
-        if (couponId != null) {
-            CouponServiceClient.CouponInfo couponInfo = couponServiceClient.getCouponInfo(couponId, userId);
-            
+        if (couponInfo != null) {
             if ("PERCENT".equals(couponInfo.getDiscountType())) {
                 BigDecimal discountRate = BigDecimal.valueOf(100 - couponInfo.getDiscountValue()).divide(BigDecimal.valueOf(100));
                 totalPrice = totalPrice.multiply(discountRate);
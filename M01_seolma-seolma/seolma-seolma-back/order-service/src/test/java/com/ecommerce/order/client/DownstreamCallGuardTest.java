@@ -0,0 +1,159 @@
+package com.ecommerce.order.client;
+
+import com.ecommerce.order.config.ResilienceConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ResilienceConfig로 만든 호출 보호 (서킷 브레이커, 벌크헤드, 재시도 예산)
+ */
+class DownstreamCallGuardTest {
+
+    private static final String PREFIX = "external.services.product-service.";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty(PREFIX + "circuit-breaker.sliding-window-size", "4")
+            .withProperty(PREFIX + "circuit-breaker.minimum-number-of-calls", "4")
+            .withProperty(PREFIX + "circuit-breaker.failure-rate-threshold", "50")
+            .withProperty(PREFIX + "circuit-breaker.wait-in-open-ms", "100")
+            .withProperty(PREFIX + "circuit-breaker.half-open-calls", "2")
+            .withProperty(PREFIX + "retry.wait-ms", "0");
+
+    @Test
+    @DisplayName("5xx가 쌓이면 서킷이 열려 호출하지 않고, 대기 후 반열림 호출이 성공하면 다시 닫힘")
+    void circuitBreaker_OpensAndRecoversThroughHalfOpen() throws InterruptedException {
+        // given
+        DownstreamCallGuard guard = callGuard();
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> guard.call(() -> {
+                calls.incrementAndGet();
+                throw status(503);
+            })).isInstanceOf(WebClientResponseException.class);
+        }
+
+        // when & then: 열린 동안은 호출하지 않음
+        assertThatThrownBy(() -> guard.call(calls::incrementAndGet)).isInstanceOf(CallNotPermittedException.class);
+        assertThat(calls.get()).isEqualTo(4);
+        assertThat(circuitState("open")).isEqualTo(1.0);
+
+        // when & then: 대기 시간이 지나면 반열림 호출만 흘려 보내고, 성공하면 닫힘
+        Thread.sleep(150);
+        assertThat(guard.call(() -> "ok")).isEqualTo("ok");
+        assertThat(circuitState("half_open")).isEqualTo(1.0);
+        assertThat(guard.call(() -> "ok")).isEqualTo("ok");
+        assertThat(circuitState("closed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 서킷 브레이커 실패로 집계하지 않음")
+    void circuitBreaker_IgnoresClientErrors() {
+        // given
+        DownstreamCallGuard guard = callGuard();
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            assertThatThrownBy(() -> guard.call(() -> {
+                throw status(404);
+            })).isInstanceOf(WebClientResponseException.class);
+        }
+
+        // then
+        assertThat(guard.call(() -> "ok")).isEqualTo("ok");
+        assertThat(circuitState("closed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("동시 호출 수를 넘으면 기다리지 않고 BulkheadFullException")
+    void bulkhead_RejectsWhenFull() throws Exception {
+        // given: 동시 호출 1개
+        environment.setProperty(PREFIX + "bulkhead.max-concurrent-calls", "1");
+        DownstreamCallGuard guard = callGuard();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> guard.call(() -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "first";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> guard.call(() -> "second")).isInstanceOf(BulkheadFullException.class);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(guard.call(() -> "third")).isEqualTo("third");
+    }
+
+    @Test
+    @DisplayName("재시도 예산을 다 쓰면 일시적인 오류도 재시도하지 않고 바로 실패")
+    void retry_StopsWhenBudgetExhausted() {
+        // given: 최대 3회 시도, 예산 1회, 일반 호출로 적립되지 않음
+        environment.setProperty(PREFIX + "retry.max-attempts", "3");
+        environment.setProperty(PREFIX + "retry.budget-max", "1");
+        environment.setProperty(PREFIX + "retry.budget-ratio", "0");
+        DownstreamCallGuard guard = callGuard();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when: 첫 호출은 예산 1회를 쓰고 실패, 두 번째 호출은 재시도 없이 실패
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> guard.callWithRetry(() -> {
+                attempts.incrementAndGet();
+                throw status(503);
+            })).isInstanceOf(WebClientResponseException.class);
+        }
+
+        // then
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("order.downstream.retries").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("order.downstream.retry.budget.rejected").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 재시도하지 않음")
+    void retry_SkipsClientErrors() {
+        // given
+        environment.setProperty(PREFIX + "retry.max-attempts", "3");
+        DownstreamCallGuard guard = callGuard();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        assertThatThrownBy(() -> guard.callWithRetry(() -> {
+            attempts.incrementAndGet();
+            throw status(429);
+        })).isInstanceOf(WebClientResponseException.class);
+
+        // then
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    private DownstreamCallGuard callGuard() {
+        return new ResilienceConfig(environment, meterRegistry).productServiceCallGuard();
+    }
+
+    private double circuitState(String state) {
+        return meterRegistry.get("resilience4j.circuitbreaker.state").tag("state", state).gauge().value();
+    }
+
+    private static WebClientResponseException status(int status) {
+        return WebClientResponseException.create(status, "status " + status, null, null, null);
+    }
+}
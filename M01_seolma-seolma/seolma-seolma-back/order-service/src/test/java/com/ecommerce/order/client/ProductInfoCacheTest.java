@@ -0,0 +1,74 @@
+package com.ecommerce.order.client;
+
+import com.ecommerce.common.event.LocalProductCacheInvalidationChannel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ProductInfoCacheTest {
+
+    private LocalProductCacheInvalidationChannel invalidationChannel;
+    private ProductInfoCache productInfoCache;
+    private AtomicInteger loads;
+    private Function<Long, ProductServiceClient.ProductInfo> loader;
+
+    @BeforeEach
+    void setUp() {
+        invalidationChannel = new LocalProductCacheInvalidationChannel();
+        productInfoCache = new ProductInfoCache(invalidationChannel, 60000, 100);
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            return productInfo("상품" + id, 10000);
+        };
+    }
+
+    @Test
+    @DisplayName("같은 상품 재조회는 캐시 적중, 무효화 채널로 받은 상품은 다시 조회")
+    void get_HitAndEvictOnChannel() {
+        // given
+        productInfoCache.get(1L, loader);
+        productInfoCache.get(1L, loader);
+        assertThat(loads.get()).isEqualTo(1);
+
+        // when
+        invalidationChannel.publish(1L);
+        productInfoCache.get(1L, loader);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 중에 무효화되면 조회한 (변경 전) 정보는 캐시하지 않음")
+    void get_InvalidatedDuringLoad_NotCached() {
+        // given: 상품 서비스 응답 직후, 캐시에 넣기 전에 가격 변경 신호 도착
+        productInfoCache.get(1L, id -> {
+            ProductServiceClient.ProductInfo stale = productInfo("상품1", 10000);
+            invalidationChannel.publish(id);
+            return stale;
+        });
+
+        // when
+        ProductServiceClient.ProductInfo productInfo = productInfoCache.get(1L, id -> productInfo("상품1", 8000));
+
+        // then
+        assertThat(productInfo.getPrice()).isEqualByComparingTo("8000");
+        assertThat(productInfoCache.get(1L, loader).getPrice()).isEqualByComparingTo("8000");
+        assertThat(loads.get()).isZero();
+    }
+
+    private ProductServiceClient.ProductInfo productInfo(String name, long price) {
+        ProductServiceClient.ProductInfo productInfo = new ProductServiceClient.ProductInfo();
+        productInfo.setName(name);
+        productInfo.setPrice(BigDecimal.valueOf(price));
+        productInfo.setIsDeleted(false);
+        return productInfo;
+    }
+}
@@ -0,0 +1,51 @@
+package com.ecommerce.order.client;
+
+import com.ecommerce.common.event.LocalProductCacheInvalidationChannel;
+import com.ecommerce.common.exception.BusinessException;
+import com.ecommerce.common.response.CommonResultCode;
+import com.ecommerce.common.response.ResultCode;
+import com.ecommerce.order.config.ResilienceConfig;
+import com.ecommerce.order.exception.OrderResultCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ProductServiceClientTest {
+
+    @Test
+    @DisplayName("404만 상품 없음으로 변환하고 인증/권한/요청 제한 응답은 구분해서 알림")
+    void getProductInfo_MapsResponseStatus() {
+        assertResultCode(HttpStatus.NOT_FOUND, OrderResultCode.PRODUCT_NOT_FOUND);
+        assertResultCode(HttpStatus.UNAUTHORIZED, CommonResultCode.UNAUTHORIZED);
+        assertResultCode(HttpStatus.FORBIDDEN, CommonResultCode.FORBIDDEN);
+        assertResultCode(HttpStatus.TOO_MANY_REQUESTS, OrderResultCode.EXTERNAL_SERVICE_BUSY);
+        assertResultCode(HttpStatus.BAD_REQUEST, CommonResultCode.EXTERNAL_API_ERROR);
+        assertResultCode(HttpStatus.SERVICE_UNAVAILABLE, OrderResultCode.PRODUCT_SERVICE_UNAVAILABLE);
+    }
+
+    private void assertResultCode(HttpStatus status, ResultCode expected) {
+        ProductServiceClient client = clientRespondingWith(status);
+        assertThatThrownBy(() -> client.getProductInfo(1L))
+                .as("status %s", status)
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("resultCode", expected);
+    }
+
+    private ProductServiceClient clientRespondingWith(HttpStatus status) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(status).build()))
+                .build();
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("external.services.product-service.retry.max-attempts", "1");
+        DownstreamCallGuard callGuard = new ResilienceConfig(environment, new SimpleMeterRegistry()).productServiceCallGuard();
+        return new ProductServiceClient(webClient, callGuard,
+                new ProductInfoCache(new LocalProductCacheInvalidationChannel(), 60000, 100));
+    }
+}
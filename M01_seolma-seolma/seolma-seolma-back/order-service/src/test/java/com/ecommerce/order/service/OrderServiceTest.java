@@ -0,0 +1,105 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.common.exception.BusinessException;
+import com.ecommerce.order.client.CouponServiceClient;
+import com.ecommerce.order.client.ProductServiceClient;
+import com.ecommerce.order.config.ResilienceConfig;
+import com.ecommerce.order.domain.PaymentMethod;
+import com.ecommerce.order.dto.OrderCreateRequest;
+import com.ecommerce.order.exception.OrderResultCode;
+import com.ecommerce.order.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceTest {
+
+    private static final Long COUPON_ID = 10L;
+    private static final String USER_ID = "user1";
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ProductServiceClient productServiceClient;
+
+    private final List<String> couponCalls = new CopyOnWriteArrayList<>();
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("쿠폰 사용 응답이 타임아웃되면 사용 여부를 알 수 없으므로 사용 취소 요청")
+    void createOrder_RedeemTimeout_ReleasesCoupon() {
+        // given: 쿠폰 서비스는 사용 처리했지만 응답이 타임아웃
+        OrderService orderService = orderService(Mono.error(ReadTimeoutException.INSTANCE));
+
+        // when & then
+        assertThatThrownBy(() -> orderService.createOrder(couponOrder(), USER_ID))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("resultCode", OrderResultCode.COUPON_SERVICE_UNAVAILABLE);
+        assertThat(couponCalls).containsExactly("/internal/v1/coupons/10/redeem", "/internal/v1/coupons/10/release");
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("쿠폰 사용이 4xx로 거절되면 사용 취소하지 않음")
+    void createOrder_RedeemRejected_DoesNotRelease() {
+        // given: 이미 사용된 쿠폰
+        OrderService orderService = orderService(Mono.just(ClientResponse.create(HttpStatus.CONFLICT).build()));
+
+        // when & then
+        assertThatThrownBy(() -> orderService.createOrder(couponOrder(), USER_ID))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("resultCode", OrderResultCode.COUPON_USE_FAILED);
+        assertThat(couponCalls).containsExactly("/internal/v1/coupons/10/redeem");
+        verifyNoInteractions(orderRepository);
+    }
+
+    private OrderService orderService(Mono<ClientResponse> redeemResponse) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    String path = request.url().getPath();
+                    couponCalls.add(path);
+                    return path.endsWith("/redeem") ? redeemResponse : Mono.just(ClientResponse.create(HttpStatus.OK).build());
+                })
+                .build();
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("external.services.coupon-service.retry.wait-ms", "0");
+        CouponServiceClient couponServiceClient = new CouponServiceClient(webClient,
+                new ResilienceConfig(environment, new SimpleMeterRegistry()).couponServiceCallGuard());
+        return new OrderService(orderRepository, productServiceClient, couponServiceClient, executor);
+    }
+
+    private OrderCreateRequest couponOrder() {
+        return new OrderCreateRequest("홍길동", "서울시 강남구 테헤란로 123", 1L, 1, COUPON_ID, PaymentMethod.CARD);
+    }
+}
@@ -1,20 +1,34 @@
 package com.ecommerce.product.config;
 
+import com.ecommerce.product.controller.StaticImageServlet;
+import com.ecommerce.product.service.StaticImageCache;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.nio.file.Paths;
 
 @Configuration
-public class WebConfig implements WebMvcConfigurer {
+public class WebConfig {
     
     @Value("${app.upload.dir:/tmp/uploads}")
     private String uploadDir;
     
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // 이미지 파일 서빙 설정
-        registry.addResourceHandler("/images/**")
-                .addResourceLocations("file:" + uploadDir + "/");
+    @Value("${product.static-image.max-age-seconds:31536000}")
+    private long maxAgeSeconds;
+    
+    @Value("${product.static-image.sendfile-min-size:49152}")
+    private long sendfileMinSize;
+    
+    @Bean
+    public ServletRegistrationBean<StaticImageServlet> staticImageServlet(StaticImageCache staticImageCache) {
+        // 이미지 파일 서빙 설정 (DispatcherServlet을 거치지 않는 전용 서블릿)
+        ServletRegistrationBean<StaticImageServlet> registration = new ServletRegistrationBean<>(
+                new StaticImageServlet(Paths.get(uploadDir), staticImageCache, maxAgeSeconds, sendfileMinSize),
+                "/images/*");
+        registration.setName("staticImageServlet");
+        registration.setLoadOnStartup(1);
+        return registration;
     }
 }
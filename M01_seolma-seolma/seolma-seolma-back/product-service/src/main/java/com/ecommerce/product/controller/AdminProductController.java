@@ -9,14 +9,17 @@ import com.ecommerce.product.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -46,12 +49,13 @@ public class AdminProductController {
             @Parameter(description = "최소 가격") @RequestParam(required = false) BigDecimal minPrice,
             @Parameter(description = "최대 가격") @RequestParam(required = false) BigDecimal maxPrice,
             @Parameter(description = "삭제된 상품 포함 여부") @RequestParam(defaultValue = "true") Boolean includeDeleted,
+            @Parameter(description = "전체 개수 정확히 계산 여부 (기본: 결과가 많으면 추정값)") @RequestParam(defaultValue = "false") boolean exactCount,
             @PageableDefault(size = 20) Pageable pageable) {
         
         ProductSearchCondition condition = new ProductSearchCondition(
                 keyword, sellerId, minPrice, maxPrice);
         
-        Page<ProductResponse> response = productService.searchProductsForAdmin(condition, includeDeleted, pageable);
+        Page<ProductResponse> response = productService.searchProductsForAdmin(condition, includeDeleted, exactCount, pageable);
         return ApiResponse.success(response);
     }
     
@@ -87,6 +91,22 @@ public class AdminProductController {
         return ApiResponse.success(response);
     }
     
+    @Operation(summary = "상품 이미지 업로드 (스트리밍)",
+            description = "요청 본문(이미지 바이너리)을 임시 파일 없이 바로 저장소에 기록합니다. 대용량/일괄 업로드용이며, 형식은 filename의 확장자와 파일 시그니처로 확인합니다")
+    @PostMapping(value = "/{productId}/images/stream", consumes = {
+            MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_GIF_VALUE,
+            "image/webp", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ApiResponse<ProductImageResponse> uploadImageStream(
+            @Parameter(description = "상품 ID", required = true) @PathVariable Long productId,
+            @Parameter(description = "원본 파일명 (예: photo.jpg)", required = true) @RequestParam String filename,
+            HttpServletRequest request) throws IOException {
+        
+        String sellerId = SecurityUtils.getCurrentUserId();
+        ProductImageResponse response = productImageService.uploadImageStream(
+                productId, request.getInputStream(), filename, sellerId);
+        return ApiResponse.success(response);
+    }
+    
     @Operation(summary = "상품 이미지 목록 조회", description = "상품의 모든 이미지를 조회합니다")
     @GetMapping("/{productId}/images")
     public ApiResponse<List<ProductImageResponse>> getProductImages(
@@ -2,6 +2,7 @@ package com.ecommerce.product.controller;
 
 import com.ecommerce.common.response.ApiResponse;
 import com.ecommerce.product.dto.ProductResponse;
+import com.ecommerce.product.dto.ProductSummaryResponse;
 import com.ecommerce.product.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -9,6 +10,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "내부 상품 API", description = "다른 마이크로서비스에서 호출하는 내부 API")
 @RestController
 @RequestMapping("/api/v1/internal/products")
@@ -25,4 +28,22 @@ public class InternalProductController {
         ProductResponse response = productService.getProduct(productId);
         return ApiResponse.success(response);
     }
-}
\ No newline at end of file
+    
+    @Operation(summary = "상품 요약 조회 (내부 API)", description = "이미지 없이 ID, 이름, 가격, 삭제 여부만 조회합니다 (삭제된 상품 포함)")
+    @GetMapping("/{productId}/summary")
+    public ApiResponse<ProductSummaryResponse> getProductSummary(
+            @Parameter(description = "상품 ID", required = true) @PathVariable Long productId) {
+        
+        ProductSummaryResponse response = productService.getProductSummary(productId);
+        return ApiResponse.success(response);
+    }
+    
+    @Operation(summary = "상품 요약 일괄 조회 (내부 API)", description = "여러 상품의 요약 정보를 한 번에 조회합니다 (최대 100개, 없는 ID는 제외)")
+    @GetMapping("/summaries")
+    public ApiResponse<List<ProductSummaryResponse>> getProductSummaries(
+            @Parameter(description = "상품 ID 목록 (예: ids=1,2,3)", required = true) @RequestParam List<Long> ids) {
+        
+        List<ProductSummaryResponse> response = productService.getProductSummaries(ids);
+        return ApiResponse.success(response);
+    }
+}
@@ -33,27 +33,27 @@ public class ProductController {
     
     @Operation(summary = "상품 목록 조회", description = "판매 중인 상품 목록을 조회합니다")
     @GetMapping
-    public ApiResponse<Page<ProductResponse>> getProducts(
+    public ApiResponse<Page<ProductListResponse>> getProducts(
             @Parameter(description = "검색 키워드") @RequestParam(required = false) String keyword,
             @PageableDefault(size = 20, sort = "id") Pageable pageable) {
         
-        Page<ProductResponse> response = productService.getProducts(keyword, pageable);
+        Page<ProductListResponse> response = productService.getProducts(keyword, pageable);
         return ApiResponse.success(response);
     }
     
     @Operation(summary = "판매자별 상품 조회", description = "특정 판매자의 상품 목록을 조회합니다")
     @GetMapping("/seller/{sellerId}")
-    public ApiResponse<Page<ProductResponse>> getProductsBySeller(
+    public ApiResponse<Page<ProductListResponse>> getProductsBySeller(
             @Parameter(description = "판매자 ID", required = true) @PathVariable String sellerId,
             @PageableDefault(size = 20) Pageable pageable) {
         
-        Page<ProductResponse> response = productService.getProductsBySeller(sellerId, pageable);
+        Page<ProductListResponse> response = productService.getProductsBySeller(sellerId, pageable);
         return ApiResponse.success(response);
     }
     
     @Operation(summary = "상품 검색", description = "다양한 조건으로 상품을 검색합니다")
     @GetMapping("/search")
-    public ApiResponse<Page<ProductResponse>> searchProducts(
+    public ApiResponse<Page<ProductListResponse>> searchProducts(
             @Parameter(description = "검색 키워드") @RequestParam(required = false) String keyword,
             @Parameter(description = "판매자 ID") @RequestParam(required = false) String sellerId,
             @Parameter(description = "최소 가격") @RequestParam(required = false) BigDecimal minPrice,
@@ -63,7 +63,24 @@ public class ProductController {
         ProductSearchCondition condition = new ProductSearchCondition(
                 keyword, sellerId, minPrice, maxPrice);
         
-        Page<ProductResponse> response = productService.searchProducts(condition, pageable);
+        Page<ProductListResponse> response = productService.searchProducts(condition, pageable);
         return ApiResponse.success(response);
     }
-}
\ No newline at end of file
+    
+    @Operation(summary = "상품 검색 (커서 기반)", description = "무한 스크롤용 상품 검색입니다. 최신 등록순으로 조회하며, 응답의 nextCursor를 다음 요청의 cursor로 전달합니다")
+    @GetMapping("/search/cursor")
+    public ApiResponse<ProductCursorResponse> searchProductsByCursor(
+            @Parameter(description = "검색 키워드") @RequestParam(required = false) String keyword,
+            @Parameter(description = "판매자 ID") @RequestParam(required = false) String sellerId,
+            @Parameter(description = "최소 가격") @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "최대 가격") @RequestParam(required = false) BigDecimal maxPrice,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+        
+        ProductSearchCondition condition = new ProductSearchCondition(
+                keyword, sellerId, minPrice, maxPrice);
+        
+        ProductCursorResponse response = productService.searchProductsByCursor(condition, cursor, size);
+        return ApiResponse.success(response);
+    }
+}
@@ -0,0 +1,248 @@
+package com.ecommerce.product.controller;
+
+import com.ecommerce.product.service.ImageUploadStream;
+import com.ecommerce.product.service.StaticImageCache;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Locale;
+
+/**
+ * 로컬에 저장된 상품 이미지 전용 서블릿 (/images/*)
+ *
+ * DispatcherServlet(MVC 핸들러 매핑, 리소스 리졸버 체인)을 거치지 않고 파일을 바로 내려준다.
+ * - 파일명에 UUID가 들어가 내용이 바뀌지 않으므로 Cache-Control: immutable, 강한 ETag(크기 + 수정 시각), Last-Modified
+ * - If-None-Match / If-Modified-Since → 304, Range(단일 구간) → 206, If-Range 지원
+ * - 작은 파일은 메모리 캐시(StaticImageCache)에서 응답
+ * - 큰 파일은 Tomcat sendfile로 커널이 직접 전송하고, 요청 스레드는 바로 반환된다 (지원하지 않으면 FileChannel.transferTo)
+ */
+public class StaticImageServlet extends HttpServlet {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    private final Path root;
+    private final StaticImageCache cache;
+    private final String cacheControl;
+    private final long sendfileMinSize;
+
+    public StaticImageServlet(Path root, StaticImageCache cache, long maxAgeSeconds, long sendfileMinSize) {
+        this.root = root.toAbsolutePath().normalize();
+        this.cache = cache;
+        this.cacheControl = "public, max-age=" + maxAgeSeconds + ", immutable";
+        this.sendfileMinSize = sendfileMinSize;
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        serve(request, response, true);
+    }
+
+    @Override
+    protected void doHead(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        serve(request, response, false);
+    }
+
+    private void serve(HttpServletRequest request, HttpServletResponse response, boolean writeBody) throws IOException {
+        Path file = resolve(request.getPathInfo());
+        String contentType = file != null ? contentType(file) : null;
+        BasicFileAttributes attributes = contentType != null ? attributes(file) : null;
+        if (attributes == null || !attributes.isRegularFile()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+        response.setHeader("ETag", etag);
+        response.setDateHeader("Last-Modified", lastModified);
+        response.setHeader("Cache-Control", cacheControl);
+        response.setHeader("Accept-Ranges", "bytes");
+
+        if (notModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader("Range");
+        if (range != null && ifRangeMatches(request, etag, lastModified)) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == UNSATISFIABLE) {
+                response.setHeader("Content-Range", "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bounds != null) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader("Content-Range", "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        response.setContentType(contentType);
+        response.setContentLengthLong(end - start + 1);
+        if (writeBody && length > 0) {
+            write(request, response, file, length, lastModified, start, end);
+        }
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response, Path file,
+                       long length, long lastModified, long start, long end) throws IOException {
+        long count = end - start + 1;
+
+        if (cache.isCacheable(length)) {
+            byte[] content = cache.get(file, length, lastModified);
+            response.getOutputStream().write(content, (int) start, (int) count);
+            return;
+        }
+
+        if (count >= sendfileMinSize && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 응답 본문은 요청 처리가 끝난 뒤 커넥터가 sendfile로 전송 (end는 제외 위치)
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        OutputStream outputStream = response.getOutputStream();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(outputStream);
+            long position = start;
+            while (position <= end) {
+                long transferred = channel.transferTo(position, end - position + 1, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+        }
+    }
+
+    /**
+     * 요청 경로 → 업로드 디렉토리 안의 실제 파일 (디렉토리 밖, 숨김/임시 파일은 null)
+     */
+    private Path resolve(String pathInfo) throws IOException {
+        if (pathInfo == null || pathInfo.length() <= 1) {
+            return null;
+        }
+        Path candidate = root.resolve(pathInfo.substring(1)).normalize();
+        if (!candidate.startsWith(root) || candidate.getFileName().toString().startsWith(".")) {
+            return null;
+        }
+        try {
+            // 심볼릭 링크로 디렉토리 밖을 가리키는 경우 차단 (sendfile은 실제 경로를 받는다)
+            Path realPath = candidate.toRealPath();
+            return realPath.startsWith(root.toRealPath()) ? realPath : null;
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private BasicFileAttributes attributes(Path file) throws IOException {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private String contentType(Path file) {
+        String filename = file.getFileName().toString();
+        int lastDotIndex = filename.lastIndexOf('.');
+        return lastDotIndex != -1 ? ImageUploadStream.contentType(filename.substring(lastDotIndex + 1).toLowerCase(Locale.ROOT)) : null;
+    }
+
+    private boolean notModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                String value = candidate.trim();
+                if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long ifModifiedSince = dateHeader(request, "If-Modified-Since");
+        return ifModifiedSince != -1 && lastModified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    /**
+     * If-Range가 없거나 현재 파일과 같으면 Range 적용 (다르면 전체 응답)
+     */
+    private boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader("If-Range");
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        long date = dateHeader(request, "If-Range");
+        return date != -1 && lastModified / 1000 == date / 1000;
+    }
+
+    /**
+     * "bytes=시작-끝", "bytes=시작-", "bytes=-마지막N바이트" 형식의 단일 구간
+     * 형식이 잘못되었거나 여러 구간이면 null (전체 응답)
+     */
+    static long[] parseRange(String range, long length) {
+        if (!range.startsWith("bytes=") || range.indexOf(',') != -1) {
+            return null;
+        }
+        String spec = range.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash == -1) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                long suffixLength = Long.parseLong(last);
+                if (suffixLength <= 0 || length == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new long[]{Math.max(0, length - suffixLength), length - 1};
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+            if (start < 0 || end < start) {
+                return null;
+            }
+            if (start >= length) {
+                return UNSATISFIABLE;
+            }
+            return new long[]{start, Math.min(end, length - 1)};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+}
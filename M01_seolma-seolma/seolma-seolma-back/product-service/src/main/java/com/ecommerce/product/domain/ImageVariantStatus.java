@@ -0,0 +1,11 @@
+package com.ecommerce.product.domain;
+
+/**
+ * 상품 이미지 파생본(썸네일 등) 생성 상태
+ */
+public enum ImageVariantStatus {
+    PENDING,        // 생성 대기 (업로드 직후, 재시도 대기)
+    PROCESSING,     // 작업자가 가져가서 생성 중 (오래 머물러 있으면 다시 PENDING으로)
+    READY,          // 생성 완료
+    FAILED          // 원본을 읽을 수 없는 형식 등으로 생성 포기 (원본 사용)
+}
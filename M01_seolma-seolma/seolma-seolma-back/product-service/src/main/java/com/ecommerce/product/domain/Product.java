@@ -14,7 +14,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        // 커서 기반 목록 조회 (created_at DESC, product_id DESC)
+        @Index(name = "idx_products_created_at_id", columnList = "created_at, product_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -10,7 +10,12 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "product_images")
+@Table(name = "product_images", indexes = {
+        // 상품별 대표 이미지 조회 (삭제되지 않은 이미지 중 ID가 가장 작은 것)
+        @Index(name = "idx_product_images_product_id_deleted", columnList = "product_id, is_deleted, image_id"),
+        // 파생본 생성 대기 이미지 조회
+        @Index(name = "idx_product_images_variant_status", columnList = "variant_status, image_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ProductImage {
@@ -30,6 +35,24 @@ public class ProductImage {
     @Column(name = "is_deleted", nullable = false)
     private Boolean isDeleted = false;
     
+    // 목록용 썸네일 / 상세용 축소본 (생성 전이면 null → 원본 사용)
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl;
+    
+    @Column(name = "medium_url", length = 500)
+    private String mediumUrl;
+    
+    // 기존 이미지는 null (PENDING과 같이 취급해 순차적으로 생성)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "variant_status", length = 20)
+    private ImageVariantStatus variantStatus = ImageVariantStatus.PENDING;
+    
+    @Column(name = "variant_attempts")
+    private Integer variantAttempts = 0;
+    
+    @Column(name = "variant_updated_at")
+    private LocalDateTime variantUpdatedAt;
+    
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,19 @@
+package com.ecommerce.product.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색 결과 개수 (approximate가 true면 추정값)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductCount {
+    
+    private final long total;
+    private final boolean approximate;
+    
+    public static ProductCount exact(long total) {
+        return new ProductCount(total, false);
+    }
+}
@@ -0,0 +1,52 @@
+package com.ecommerce.product.dto;
+
+import com.ecommerce.common.exception.BusinessException;
+import com.ecommerce.product.exception.ProductResultCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이징 위치 (createdAt DESC, id DESC 정렬 기준 마지막 항목)
+ * 클라이언트에는 내부 구조를 알 수 없는 문자열(token)로만 전달한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductCursor {
+    
+    private static final String DELIMITER = "_";
+    
+    private final LocalDateTime createdAt;
+    private final Long id;
+    
+    public static ProductCursor from(ProductListResponse product) {
+        return new ProductCursor(product.getCreatedAt(), product.getId());
+    }
+    
+    /**
+     * @return 토큰이 없으면 null (첫 페이지)
+     */
+    public static ProductCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = value.lastIndexOf(DELIMITER);
+            return new ProductCursor(
+                    LocalDateTime.parse(value.substring(0, index)),
+                    Long.parseLong(value.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessException(ProductResultCode.INVALID_CURSOR);
+        }
+    }
+    
+    public String encode() {
+        String value = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
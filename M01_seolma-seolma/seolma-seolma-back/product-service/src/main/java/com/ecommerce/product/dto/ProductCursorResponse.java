@@ -0,0 +1,19 @@
+package com.ecommerce.product.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 상품 목록 응답 (전체 개수 없이 다음 페이지 여부만 제공)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductCursorResponse {
+    
+    private final List<ProductListResponse> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;    // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+}
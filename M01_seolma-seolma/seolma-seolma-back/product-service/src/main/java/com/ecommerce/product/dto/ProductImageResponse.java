@@ -12,12 +12,16 @@ public class ProductImageResponse {
     
     private final Long id;
     private final String imageUrl;
+    private final String thumbnailUrl;      // 목록용 썸네일 (생성 전이면 null)
+    private final String mediumUrl;         // 상세 화면용 축소본 (생성 전이면 null)
     private final LocalDateTime createdAt;
     
     public static ProductImageResponse from(ProductImage image) {
         return new ProductImageResponse(
                 image.getId(),
                 image.getImageUrl(),
+                image.getThumbnailUrl(),
+                image.getMediumUrl(),
                 image.getCreatedAt()
         );
     }
@@ -0,0 +1,35 @@
+package com.ecommerce.product.dto;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록용 응답 (대표 이미지 URL 하나만 포함)
+ * 리포지토리에서 생성자 프로젝션으로 바로 조회하며, 전체 이미지는 상세 조회(ProductResponse)에서 제공한다.
+ */
+@Getter
+public class ProductListResponse {
+
+    private final Long id;
+    private final String name;
+    private final String sellerId;
+    private final BigDecimal price;
+    private final Boolean isDeleted;
+    private final Boolean isAvailable;
+    private final LocalDateTime createdAt;
+    private final String imageUrl;      // 대표 이미지 (삭제되지 않은 첫 번째 이미지, 없으면 null)
+
+    public ProductListResponse(Long id, String name, String sellerId, BigDecimal price,
+                               Boolean isDeleted, LocalDateTime createdAt, String imageUrl) {
+        this.id = id;
+        this.name = name;
+        this.sellerId = sellerId;
+        this.price = price;
+        this.isDeleted = isDeleted;
+        this.isAvailable = !isDeleted;
+        this.createdAt = createdAt;
+        this.imageUrl = imageUrl;
+    }
+}
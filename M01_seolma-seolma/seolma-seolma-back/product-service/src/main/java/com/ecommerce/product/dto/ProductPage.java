@@ -0,0 +1,24 @@
+package com.ecommerce.product.dto;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 상품 목록 페이지 (전체 개수가 추정값인지 함께 제공)
+ * totalApproximate가 true면 totalElements/totalPages는 추정값이다.
+ */
+public class ProductPage<T> extends PageImpl<T> {
+    
+    private final boolean totalApproximate;
+    
+    public ProductPage(List<T> content, Pageable pageable, long total, boolean totalApproximate) {
+        super(content, pageable, total);
+        this.totalApproximate = totalApproximate;
+    }
+    
+    public boolean isTotalApproximate() {
+        return totalApproximate;
+    }
+}
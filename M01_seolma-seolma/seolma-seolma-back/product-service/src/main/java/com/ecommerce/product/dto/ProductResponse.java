@@ -7,7 +7,6 @@ import lombok.RequiredArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @RequiredArgsConstructor
@@ -26,7 +25,7 @@ public class ProductResponse {
         List<ProductImageResponse> imageResponses = product.getImages().stream()
                 .filter(image -> !image.getIsDeleted())
                 .map(ProductImageResponse::from)
-                .collect(Collectors.toList());
+                .toList();
         
         return new ProductResponse(
                 product.getId(),
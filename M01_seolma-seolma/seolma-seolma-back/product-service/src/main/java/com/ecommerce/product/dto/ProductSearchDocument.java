@@ -0,0 +1,20 @@
+package com.ecommerce.product.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 검색 인덱스 적재용 정보 (이미지 제외)
+ * 리포지토리에서 생성자 프로젝션으로 바로 조회한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductSearchDocument {
+    
+    private final Long id;
+    private final String name;
+    private final String sellerId;
+    private final BigDecimal price;
+}
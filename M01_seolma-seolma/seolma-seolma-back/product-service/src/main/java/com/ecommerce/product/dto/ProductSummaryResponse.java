@@ -0,0 +1,20 @@
+package com.ecommerce.product.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 내부 조회용 상품 요약 정보 (이미지 제외)
+ * 리포지토리에서 생성자 프로젝션으로 바로 조회한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductSummaryResponse {
+    
+    private final Long id;
+    private final String name;
+    private final BigDecimal price;
+    private final Boolean isDeleted;
+}
@@ -15,6 +15,8 @@ public enum ProductResultCode implements ResultCode {
     PRODUCT_NOT_FOUND("P1000", "상품을 찾을 수 없습니다"),
     PRODUCT_ALREADY_DELETED("P1001", "이미 삭제된 상품입니다"),
     UNAUTHORIZED_PRODUCT_ACCESS("P1005", "상품에 대한 권한이 없습니다"),
+    TOO_MANY_PRODUCT_IDS("P1006", "한 번에 조회할 수 있는 상품 수를 초과했습니다"),
+    INVALID_CURSOR("P1007", "유효하지 않은 커서입니다"),
     
     IMAGE_UPLOAD_FAILED("P2000", "이미지 업로드에 실패했습니다"),
     IMAGE_NOT_FOUND("P2001", "이미지를 찾을 수 없습니다"),
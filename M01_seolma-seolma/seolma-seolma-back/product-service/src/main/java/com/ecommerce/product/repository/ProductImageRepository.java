@@ -1,11 +1,15 @@
 package com.ecommerce.product.repository;
 
+import com.ecommerce.product.domain.ImageVariantStatus;
 import com.ecommerce.product.domain.ProductImage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
@@ -30,4 +34,59 @@ public interface ProductImageRepository extends JpaRepository<ProductImage, Long
     // 상품별 모든 이미지 조회 (삭제된 것 포함)
     @Query("SELECT pi FROM ProductImage pi WHERE pi.product.id = :productId ORDER BY pi.id ASC")
     List<ProductImage> findAllByProductId(@Param("productId") Long productId);
+    
+    // 파생본 생성 대기 이미지 ID (기존 이미지의 null 상태 포함, 오래된 순)
+    @Query("SELECT pi.id FROM ProductImage pi WHERE pi.isDeleted = false " +
+            "AND (pi.variantStatus IS NULL OR pi.variantStatus = :pending) ORDER BY pi.id ASC")
+    List<Long> findPendingVariantImageIds(@Param("pending") ImageVariantStatus pending, Pageable pageable);
+    
+    // 상품별 파생본 생성 대기 이미지 ID
+    @Query("SELECT pi.id FROM ProductImage pi WHERE pi.product.id = :productId AND pi.isDeleted = false " +
+            "AND (pi.variantStatus IS NULL OR pi.variantStatus = :pending)")
+    List<Long> findPendingVariantImageIdsByProductId(@Param("productId") Long productId,
+                                                     @Param("pending") ImageVariantStatus pending);
+    
+    // 파생본 생성 작업 선점 (대기 상태일 때만 PROCESSING으로 변경, 성공 시 1 → 여러 작업자/노드 중복 처리 방지)
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProductImage pi SET pi.variantStatus = :processing, pi.variantUpdatedAt = :now " +
+            "WHERE pi.id = :imageId AND pi.isDeleted = false " +
+            "AND (pi.variantStatus IS NULL OR pi.variantStatus = :pending)")
+    int claimVariantGeneration(@Param("imageId") Long imageId,
+                               @Param("pending") ImageVariantStatus pending,
+                               @Param("processing") ImageVariantStatus processing,
+                               @Param("now") LocalDateTime now);
+    
+    // 파생본 생성 완료
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProductImage pi SET pi.thumbnailUrl = :thumbnailUrl, pi.mediumUrl = :mediumUrl, " +
+            "pi.variantStatus = :ready, pi.variantUpdatedAt = :now " +
+            "WHERE pi.id = :imageId AND pi.variantStatus = :processing")
+    int completeVariantGeneration(@Param("imageId") Long imageId,
+                                  @Param("thumbnailUrl") String thumbnailUrl,
+                                  @Param("mediumUrl") String mediumUrl,
+                                  @Param("processing") ImageVariantStatus processing,
+                                  @Param("ready") ImageVariantStatus ready,
+                                  @Param("now") LocalDateTime now);
+    
+    // 파생본 생성 실패 (status: 재시도면 PENDING, 포기면 FAILED)
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProductImage pi SET pi.variantStatus = :status, pi.variantAttempts = :attempts, pi.variantUpdatedAt = :now " +
+            "WHERE pi.id = :imageId AND pi.variantStatus = :processing")
+    int failVariantGeneration(@Param("imageId") Long imageId,
+                              @Param("status") ImageVariantStatus status,
+                              @Param("attempts") int attempts,
+                              @Param("processing") ImageVariantStatus processing,
+                              @Param("now") LocalDateTime now);
+    
+    // 작업 도중 서버가 내려가 PROCESSING에 남은 이미지를 다시 대기 상태로
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProductImage pi SET pi.variantStatus = :pending " +
+            "WHERE pi.variantStatus = :processing AND pi.variantUpdatedAt < :staleBefore")
+    int releaseStaleVariantClaims(@Param("pending") ImageVariantStatus pending,
+                                  @Param("processing") ImageVariantStatus processing,
+                                  @Param("staleBefore") LocalDateTime staleBefore);
 }
\ No newline at end of file
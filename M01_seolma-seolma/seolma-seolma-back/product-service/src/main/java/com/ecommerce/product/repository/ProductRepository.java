@@ -1,6 +1,8 @@
 package com.ecommerce.product.repository;
 
 import com.ecommerce.product.domain.Product;
+import com.ecommerce.product.dto.ProductSearchDocument;
+import com.ecommerce.product.dto.ProductSummaryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -9,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,10 +21,6 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
     @EntityGraph(attributePaths = {"images"})
     Optional<Product> findByIdAndIsDeletedFalse(Long id);
     
-    // 판매자별 상품 조회 (이미지 포함)
-    @EntityGraph(attributePaths = {"images"})
-    Page<Product> findBySellerIdAndIsDeletedFalse(String sellerId, Pageable pageable);
-    
     // 상품명으로 검색 (삭제되지 않은 상품만, 이미지 포함)
     @EntityGraph(attributePaths = {"images"})
     @Query("SELECT p FROM Product p WHERE p.name LIKE %:keyword% AND p.isDeleted = false")
@@ -35,12 +34,6 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
             @Param("maxPrice") BigDecimal maxPrice, 
             Pageable pageable);
     
-    // 활성 상품 조회 (삭제되지 않은 상품, 이미지 포함) - Pageable의 정렬 사용
-    @EntityGraph(attributePaths = {"images"})
-    @Query("SELECT p FROM Product p WHERE p.isDeleted = false " +
-            "AND (:keyword IS NULL OR p.name LIKE %:keyword%)")
-    Page<Product> findAvailableProducts(String keyword, Pageable pageable);
-    
     // 판매자의 활성 상품 수 조회
     @Query("SELECT COUNT(p) FROM Product p WHERE p.sellerId = :sellerId AND p.isDeleted = false")
     Long countActiveProductsBySellerId(@Param("sellerId") String sellerId);
@@ -49,4 +42,24 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
     @EntityGraph(attributePaths = {"images"})
     @Query("SELECT p FROM Product p WHERE p.isDeleted = false ORDER BY p.createdAt DESC")
     List<Product> findLatestProducts(Pageable pageable);
-}
\ No newline at end of file
+    
+    // 내부 조회용 요약 정보 (PK 단건 조회, 이미지 조인 없음, 삭제 여부 포함)
+    @Query("SELECT new com.ecommerce.product.dto.ProductSummaryResponse(p.id, p.name, p.price, p.isDeleted) " +
+            "FROM Product p WHERE p.id = :id")
+    Optional<ProductSummaryResponse> findSummaryById(@Param("id") Long id);
+    
+    // 내부 조회용 요약 정보 일괄 조회
+    @Query("SELECT new com.ecommerce.product.dto.ProductSummaryResponse(p.id, p.name, p.price, p.isDeleted) " +
+            "FROM Product p WHERE p.id IN :ids")
+    List<ProductSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 검색 인덱스 적재용 (삭제되지 않은 상품, ID 순으로 lastId 이후부터)
+    @Query("SELECT new com.ecommerce.product.dto.ProductSearchDocument(p.id, p.name, p.sellerId, p.price) " +
+            "FROM Product p WHERE p.isDeleted = false AND p.id > :lastId ORDER BY p.id")
+    List<ProductSearchDocument> findSearchDocumentsAfter(@Param("lastId") Long lastId, Pageable pageable);
+    
+    // 검색 인덱스 단건 갱신용 (삭제된 상품이면 빈 값)
+    @Query("SELECT new com.ecommerce.product.dto.ProductSearchDocument(p.id, p.name, p.sellerId, p.price) " +
+            "FROM Product p WHERE p.id = :id AND p.isDeleted = false")
+    Optional<ProductSearchDocument> findSearchDocumentById(@Param("id") Long id);
+}
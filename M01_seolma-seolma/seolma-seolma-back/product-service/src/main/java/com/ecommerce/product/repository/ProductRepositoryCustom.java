@@ -1,19 +1,49 @@
 package com.ecommerce.product.repository;
 
 import com.ecommerce.product.domain.Product;
+import com.ecommerce.product.dto.ProductCursor;
+import com.ecommerce.product.dto.ProductListResponse;
 import com.ecommerce.product.dto.ProductSearchCondition;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface ProductRepositoryCustom {
     
     /**
-     * 복합 조건으로 상품 검색
+     * 복합 조건으로 상품 검색 (해당 페이지의 상품만, 관리자 화면용)
+     * 이미지는 접근 시 default_batch_fetch_size 단위로 일괄 조회된다.
+     * 전체 개수는 ProductCountProvider에서 필요한 경우에만 따로 센다.
+     *
+     * @param includeDeleted 삭제된 상품 포함 여부 (관리자용)
+     */
+    List<Product> searchProductContent(ProductSearchCondition condition, boolean includeDeleted, Pageable pageable);
+    
+    /**
+     * 복합 조건으로 상품 목록 조회 (삭제되지 않은 상품, 대표 이미지만 포함)
+     * Pageable에 정렬이 없으면 최신 등록순
+     */
+    List<ProductListResponse> searchProductList(ProductSearchCondition condition, Pageable pageable);
+    
+    /**
+     * ID 목록으로 상품 목록 조회 (삭제되지 않은 상품, 대표 이미지만 포함, 순서 보장 안 함)
+     */
+    List<ProductListResponse> findProductListByIds(Collection<Long> ids);
+    
+    /**
+     * 검색 조건에 맞는 전체 상품 수
+     */
+    long countProducts(ProductSearchCondition condition, boolean includeDeleted);
+    
+    /**
+     * 검색 조건에 맞는 상품 수 (limit을 넘으면 limit + 1 반환)
      */
-    Page<Product> searchProducts(ProductSearchCondition condition, Pageable pageable);
+    long countProductsUpTo(ProductSearchCondition condition, boolean includeDeleted, long limit);
     
     /**
-     * 관리자용 상품 검색 (삭제된 상품 포함 가능)
+     * 커서 기반 상품 목록 조회 (createdAt DESC, id DESC / 카운트 쿼리 없음, 대표 이미지만 포함)
+     * 다음 페이지 여부 확인을 위해 최대 limit + 1 건을 반환한다.
      */
-    Page<Product> searchProductsForAdmin(ProductSearchCondition condition, Boolean includeDeleted, Pageable pageable);
-}
\ No newline at end of file
+    List<ProductListResponse> searchProductListByCursor(ProductSearchCondition condition, ProductCursor cursor, int limit);
+}
@@ -2,16 +2,25 @@ package com.ecommerce.product.repository;
 
 import com.ecommerce.product.domain.Product;
 import com.ecommerce.product.domain.QProduct;
+import com.ecommerce.product.domain.QProductImage;
+import com.ecommerce.product.dto.ProductCursor;
+import com.ecommerce.product.dto.ProductListResponse;
 import com.ecommerce.product.dto.ProductSearchCondition;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.domain.Sort;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -20,69 +29,148 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
     private final JPAQueryFactory queryFactory;
     
     @Override
-    public Page<Product> searchProducts(ProductSearchCondition condition, Pageable pageable) {
+    public List<Product> searchProductContent(ProductSearchCondition condition, boolean includeDeleted, Pageable pageable) {
         QProduct product = QProduct.product;
         
-        BooleanBuilder builder = new BooleanBuilder();
-        
-        // 기본 조건: 삭제되지 않은 상품
-        builder.and(product.isDeleted.eq(false));
-        
-        // 상품명 검색
-        if (StringUtils.hasText(condition.getKeyword())) {
-            builder.and(product.name.containsIgnoreCase(condition.getKeyword()));
-        }
-        
-        // 판매자 ID
-        if (condition.getSellerId() != null) {
-            builder.and(product.sellerId.eq(condition.getSellerId()));
-        }
-        
-        // 가격 범위
-        if (condition.getMinPrice() != null) {
-            builder.and(product.price.goe(condition.getMinPrice()));
-        }
-        if (condition.getMaxPrice() != null) {
-            builder.and(product.price.loe(condition.getMaxPrice()));
-        }
+        // 상품만 페이징 조회 (컬렉션 fetch join 없이 DB에서 바로 페이징)
+        // 이미지는 ProductResponse 변환 시 default_batch_fetch_size 단위의 IN 쿼리로 조회된다.
+        return queryFactory
+                .selectFrom(product)
+                .where(searchCondition(product, condition, includeDeleted))
+                .orderBy(product.createdAt.desc(), product.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+    
+    @Override
+    public List<ProductListResponse> searchProductList(ProductSearchCondition condition, Pageable pageable) {
+        QProduct product = QProduct.product;
         
-        // 먼저 ID만 조회 (페이징 적용)
-        List<Long> productIds = queryFactory
-                .select(product.id)
+        return queryFactory
+                .select(listProjection(product))
                 .from(product)
-                .where(builder)
+                .where(searchCondition(product, condition, false))
+                .orderBy(orderSpecifiers(pageable.getSort()))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .orderBy(product.createdAt.desc())
                 .fetch();
+    }
+    
+    @Override
+    public List<ProductListResponse> findProductListByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        QProduct product = QProduct.product;
         
-        // ID로 실제 데이터 조회 (이미지 fetch join)
-        List<Product> content = productIds.isEmpty() ? 
-                List.of() :
-                queryFactory
-                    .selectFrom(product)
-                    .leftJoin(product.images).fetchJoin()
-                    .where(product.id.in(productIds))
-                    .orderBy(product.createdAt.desc())
-                    .fetch();
+        return queryFactory
+                .select(listProjection(product))
+                .from(product)
+                .where(product.id.in(ids), product.isDeleted.eq(false))
+                .fetch();
+    }
+    
+    @Override
+    public long countProducts(ProductSearchCondition condition, boolean includeDeleted) {
+        QProduct product = QProduct.product;
         
-        // 카운트 쿼리
-        JPAQuery<Long> countQuery = queryFactory
+        Long count = queryFactory
                 .select(product.count())
                 .from(product)
-                .where(builder);
+                .where(searchCondition(product, condition, includeDeleted))
+                .fetchOne();
+        return count != null ? count : 0L;
+    }
+    
+    @Override
+    public long countProductsUpTo(ProductSearchCondition condition, boolean includeDeleted, long limit) {
+        QProduct product = QProduct.product;
         
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        // 최대 limit + 1 건의 ID만 읽어 개수 확인 (결과가 많아도 읽는 양이 제한됨)
+        return queryFactory
+                .select(product.id)
+                .from(product)
+                .where(searchCondition(product, condition, includeDeleted))
+                .limit(limit + 1)
+                .fetch()
+                .size();
     }
     
     @Override
-    public Page<Product> searchProductsForAdmin(ProductSearchCondition condition, Boolean includeDeleted, Pageable pageable) {
+    public List<ProductListResponse> searchProductListByCursor(ProductSearchCondition condition, ProductCursor cursor, int limit) {
         QProduct product = QProduct.product;
         
+        BooleanBuilder builder = searchCondition(product, condition, false);
+        
+        // 커서 이후 항목만: (createdAt, id) < (cursor.createdAt, cursor.id)
+        if (cursor != null) {
+            builder.and(product.createdAt.lt(cursor.getCreatedAt())
+                    .or(product.createdAt.eq(cursor.getCreatedAt()).and(product.id.lt(cursor.getId()))));
+        }
+        
+        // offset 없이 인덱스 범위 조회, 대표 이미지는 같은 쿼리에서 함께 조회
+        return queryFactory
+                .select(listProjection(product))
+                .from(product)
+                .where(builder)
+                .orderBy(product.createdAt.desc(), product.id.desc())
+                .limit(limit + 1L)
+                .fetch();
+    }
+    
+    /**
+     * 목록용 프로젝션 (상품 컬럼 + 대표 이미지 URL)
+     * 대표 이미지는 삭제되지 않은 이미지 중 ID가 가장 작은 것 (findFirstByProductIdAndIsDeletedFalse와 동일)
+     * 썸네일이 생성되어 있으면 썸네일, 아니면 원본 URL
+     */
+    private ConstructorExpression<ProductListResponse> listProjection(QProduct product) {
+        QProductImage image = new QProductImage("image");
+        QProductImage firstImage = new QProductImage("firstImage");
+        
+        return Projections.constructor(ProductListResponse.class,
+                product.id,
+                product.name,
+                product.sellerId,
+                product.price,
+                product.isDeleted,
+                product.createdAt,
+                JPAExpressions
+                        .select(image.thumbnailUrl.coalesce(image.imageUrl))
+                        .from(image)
+                        .where(image.id.eq(JPAExpressions
+                                .select(firstImage.id.min())
+                                .from(firstImage)
+                                .where(firstImage.product.eq(product), firstImage.isDeleted.eq(false)))));
+    }
+    
+    /**
+     * Pageable 정렬을 QueryDSL 정렬로 변환 (정렬이 없으면 최신 등록순, 같은 값이면 ID 역순)
+     * 정렬 필드는 서비스에서 검증된 Product 필드만 들어온다.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private OrderSpecifier<?>[] orderSpecifiers(Sort sort) {
+        QProduct product = QProduct.product;
+        if (sort.isUnsorted()) {
+            return new OrderSpecifier<?>[]{product.createdAt.desc(), product.id.desc()};
+        }
+        
+        PathBuilder<Product> path = new PathBuilder<>(Product.class, product.getMetadata());
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orders.add(new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC,
+                    path.getComparable(order.getProperty(), Comparable.class)));
+        }
+        if (sort.getOrderFor("id") == null) {
+            orders.add(product.id.desc());
+        }
+        return orders.toArray(new OrderSpecifier<?>[0]);
+    }
+    
+    private BooleanBuilder searchCondition(QProduct product, ProductSearchCondition condition, boolean includeDeleted) {
         BooleanBuilder builder = new BooleanBuilder();
         
-        // 삭제된 상품 포함 여부
-        if (includeDeleted == null || !includeDeleted) {
+        if (!includeDeleted) {
             builder.and(product.isDeleted.eq(false));
         }
         
@@ -104,32 +192,6 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
             builder.and(product.price.loe(condition.getMaxPrice()));
         }
         
-        // 먼저 ID만 조회 (페이징 적용)
-        List<Long> productIds = queryFactory
-                .select(product.id)
-                .from(product)
-                .where(builder)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(product.createdAt.desc())
-                .fetch();
-        
-        // ID로 실제 데이터 조회 (이미지 fetch join)
-        List<Product> content = productIds.isEmpty() ? 
-                List.of() :
-                queryFactory
-                    .selectFrom(product)
-                    .leftJoin(product.images).fetchJoin()
-                    .where(product.id.in(productIds))
-                    .orderBy(product.createdAt.desc())
-                    .fetch();
-        
-        // 카운트 쿼리
-        JPAQuery<Long> countQuery = queryFactory
-                .select(product.count())
-                .from(product)
-                .where(builder);
-        
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return builder;
     }
-}
\ No newline at end of file
+}
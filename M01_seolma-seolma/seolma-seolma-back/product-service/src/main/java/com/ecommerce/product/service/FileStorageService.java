@@ -3,6 +3,7 @@ package com.ecommerce.product.service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * 파일 저장 서비스 인터페이스
@@ -20,6 +21,27 @@ public interface FileStorageService {
      */
     String storeFile(MultipartFile file, String directory) throws IOException;
     
+    /**
+     * 요청 본문 등 스트림을 임시 파일 없이 바로 최종 위치에 저장하고 접근 가능한 URL을 반환
+     * 형식(확장자, 파일 시그니처)과 크기는 읽으면서 검증한다.
+     * 
+     * @param inputStream 이미지 데이터 (호출 측에서 닫는다)
+     * @param originalFilename 원본 파일명 (확장자로 형식 판단)
+     * @param directory 저장할 디렉토리 (예: "products", "users")
+     * @return 파일 접근 URL
+     * @throws IOException 파일 저장 실패 시
+     */
+    String storeStream(InputStream inputStream, String originalFilename, String directory) throws IOException;
+    
+    /**
+     * 저장된 파일 읽기 (썸네일 생성 등 후처리용)
+     * 
+     * @param fileUrl 저장 시 반환된 파일 URL
+     * @return 파일 내용 (호출 측에서 닫는다)
+     * @throws IOException 파일이 없거나 읽을 수 없을 때
+     */
+    InputStream loadFile(String fileUrl) throws IOException;
+    
     /**
      * 파일을 삭제
      * 
@@ -0,0 +1,127 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.common.exception.BusinessException;
+import com.ecommerce.product.exception.ProductResultCode;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 업로드 이미지 입력 스트림 (읽으면서 형식과 크기를 검증)
+ *
+ * - 확장자가 허용 목록(jpg, jpeg, png, gif, webp)에 있고 파일 앞부분(시그니처)이 확장자와 맞는지 확인
+ * - 읽은 크기가 maxSize를 넘는 순간 IMAGE_SIZE_EXCEEDED (전체를 메모리나 임시 파일에 받아 두지 않고 판단)
+ */
+public class ImageUploadStream extends FilterInputStream {
+
+    private static final int HEADER_SIZE = 12;
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg",
+            "jpeg", "image/jpeg",
+            "png", "image/png",
+            "gif", "image/gif",
+            "webp", "image/webp");
+
+    private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] GIF = "GIF8".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] RIFF = "RIFF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] WEBP = "WEBP".getBytes(StandardCharsets.US_ASCII);
+
+    private final long maxSize;
+    private long bytesRead;
+
+    private ImageUploadStream(InputStream in, long maxSize) {
+        super(in);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 파일 앞부분을 읽어 형식을 확인한 뒤 스트림을 반환 (읽은 앞부분은 다시 스트림에 포함됨)
+     */
+    public static ImageUploadStream open(InputStream in, String filename, long maxSize) throws IOException {
+        String extension = extension(filename);
+
+        PushbackInputStream pushback = new PushbackInputStream(in, HEADER_SIZE);
+        byte[] header = pushback.readNBytes(HEADER_SIZE);
+        if (!matchesSignature(extension, header)) {
+            throw new BusinessException(ProductResultCode.INVALID_IMAGE_FORMAT);
+        }
+        pushback.unread(header);
+        return new ImageUploadStream(pushback, maxSize);
+    }
+
+    /**
+     * 허용된 이미지 확장자 (소문자)
+     */
+    public static String extension(String filename) {
+        int lastDotIndex = filename != null ? filename.lastIndexOf('.') : -1;
+        String extension = lastDotIndex != -1 ? filename.substring(lastDotIndex + 1).toLowerCase(Locale.ROOT) : "";
+        if (!CONTENT_TYPES.containsKey(extension)) {
+            throw new BusinessException(ProductResultCode.INVALID_IMAGE_FORMAT);
+        }
+        return extension;
+    }
+
+    public static String contentType(String extension) {
+        return CONTENT_TYPES.get(extension);
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            count(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count(skipped);
+        return skipped;
+    }
+
+    private void count(long n) {
+        bytesRead += n;
+        if (bytesRead > maxSize) {
+            throw new BusinessException(ProductResultCode.IMAGE_SIZE_EXCEEDED);
+        }
+    }
+
+    private static boolean matchesSignature(String extension, byte[] header) {
+        return switch (extension) {
+            case "jpg", "jpeg" -> startsWith(header, 0, JPEG);
+            case "png" -> startsWith(header, 0, PNG);
+            case "gif" -> startsWith(header, 0, GIF);
+            case "webp" -> startsWith(header, 0, RIFF) && startsWith(header, 8, WEBP);
+            default -> false;
+        };
+    }
+
+    private static boolean startsWith(byte[] header, int offset, byte[] signature) {
+        return header.length >= offset + signature.length
+                && Arrays.equals(header, offset, offset + signature.length, signature, 0, signature.length);
+    }
+}
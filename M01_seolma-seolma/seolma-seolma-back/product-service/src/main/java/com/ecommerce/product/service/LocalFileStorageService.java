@@ -8,13 +8,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -25,6 +29,9 @@ import java.util.UUID;
 @Service
 public class LocalFileStorageService implements FileStorageService {
     
+    // transferFrom 한 번에 넘기는 최대 크기 (실제 복사는 JDK 내부 버퍼 단위로 진행)
+    private static final long TRANSFER_CHUNK_SIZE = 1024 * 1024;
+    
     @Value("${app.upload.dir:/tmp/uploads}")
     private String uploadDir;
     
@@ -34,40 +41,63 @@ public class LocalFileStorageService implements FileStorageService {
     @Value("${server.servlet.context-path:}")
     private String contextPath;
     
-    private static final List<String> ALLOWED_EXTENSIONS = List.of("jpg", "jpeg", "png", "gif", "webp");
-    
     @Override
     public String storeFile(MultipartFile file, String directory) throws IOException {
-        System.out.println("=== LocalFileStorageService.storeFile called ===");
-        System.out.println("Upload Dir: " + uploadDir);
-        System.out.println("Directory: " + directory);
-        
-        validateFile(file);
+        if (file.isEmpty()) {
+            throw new BusinessException(ProductResultCode.INVALID_IMAGE_FORMAT);
+        }
+        if (file.getSize() > maxFileSize) {
+            throw new BusinessException(ProductResultCode.IMAGE_SIZE_EXCEEDED);
+        }
         
-        // 디렉토리별 저장 경로 생성
-        Path directoryPath = Paths.get(uploadDir, directory);
-        if (!Files.exists(directoryPath)) {
-            Files.createDirectories(directoryPath);
+        // 형식 확인 (파일 앞부분만 읽음)
+        try (InputStream inputStream = file.getInputStream()) {
+            ImageUploadStream.open(inputStream, file.getOriginalFilename(), maxFileSize);
         }
         
-        // 고유한 파일명 생성
-        String originalFilename = file.getOriginalFilename();
-        String extension = getFileExtension(originalFilename);
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String uniqueFilename = timestamp + "_" + UUID.randomUUID().toString() + "." + extension;
+        String uniqueFilename = generateUniqueFilename(ImageUploadStream.extension(file.getOriginalFilename()));
+        Path filePath = createDirectory(directory).resolve(uniqueFilename);
         
-        // 파일 저장
-        Path filePath = directoryPath.resolve(uniqueFilename);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        // 서블릿 컨테이너가 임시 파일로 받아 둔 경우 같은 파일 시스템이면 이동(rename)만 하므로 다시 쓰지 않는다
+        file.transferTo(filePath.toFile());
         
-        // 접근 가능한 URL 반환
         String fileUrl = "/images/" + directory + "/" + uniqueFilename;
-        
-        System.out.println("Local File Upload Success - URL: " + fileUrl);
         log.info("File stored successfully: {}", fileUrl);
         return fileUrl;
     }
     
+    @Override
+    public String storeStream(InputStream inputStream, String originalFilename, String directory) throws IOException {
+        String uniqueFilename = generateUniqueFilename(ImageUploadStream.extension(originalFilename));
+        Path directoryPath = createDirectory(directory);
+        Path filePath = directoryPath.resolve(uniqueFilename);
+        // 같은 디렉토리의 임시 이름으로 받은 뒤 이동 (받는 도중의 파일이 노출되지 않도록)
+        Path partPath = directoryPath.resolve("." + uniqueFilename + ".part");
+        
+        ImageUploadStream uploadStream = ImageUploadStream.open(inputStream, originalFilename, maxFileSize);
+        try (FileChannel target = FileChannel.open(partPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+             ReadableByteChannel source = Channels.newChannel(uploadStream)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = target.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                position += transferred;
+            }
+            Files.move(partPath, filePath, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(partPath);
+        }
+        
+        String fileUrl = "/images/" + directory + "/" + uniqueFilename;
+        log.info("File streamed successfully: {}, size={}", fileUrl, uploadStream.getBytesRead());
+        return fileUrl;
+    }
+    
+    @Override
+    public InputStream loadFile(String fileUrl) throws IOException {
+        String relativePath = fileUrl.replace("/images/", "");
+        return Files.newInputStream(Paths.get(uploadDir, relativePath));
+    }
+    
     @Override
     public boolean deleteFile(String fileUrl) {
         try {
@@ -101,31 +131,17 @@ public class LocalFileStorageService implements FileStorageService {
         }
     }
     
-    private void validateFile(MultipartFile file) {
-        if (file.isEmpty()) {
-            throw new BusinessException(ProductResultCode.INVALID_IMAGE_FORMAT);
-        }
-        
-        if (file.getSize() > maxFileSize) {
-            throw new BusinessException(ProductResultCode.IMAGE_SIZE_EXCEEDED);
-        }
-        
-        String originalFilename = file.getOriginalFilename();
-        if (originalFilename == null) {
-            throw new BusinessException(ProductResultCode.INVALID_IMAGE_FORMAT);
-        }
-        
-        String extension = getFileExtension(originalFilename).toLowerCase();
-        if (!ALLOWED_EXTENSIONS.contains(extension)) {
-            throw new BusinessException(ProductResultCode.INVALID_IMAGE_FORMAT);
+    private Path createDirectory(String directory) throws IOException {
+        // 컨테이너의 Part.write는 상대 경로를 임시 디렉토리 기준으로 해석하므로 절대 경로 사용
+        Path directoryPath = Paths.get(uploadDir, directory).toAbsolutePath();
+        if (!Files.exists(directoryPath)) {
+            Files.createDirectories(directoryPath);
         }
+        return directoryPath;
     }
     
-    private String getFileExtension(String filename) {
-        int lastDotIndex = filename.lastIndexOf('.');
-        if (lastDotIndex == -1) {
-            return "";
-        }
-        return filename.substring(lastDotIndex + 1);
+    private String generateUniqueFilename(String extension) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        return timestamp + "_" + UUID.randomUUID().toString() + "." + extension;
     }
-}
\ No newline at end of file
+}
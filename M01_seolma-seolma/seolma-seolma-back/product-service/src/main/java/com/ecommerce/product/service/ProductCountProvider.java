@@ -0,0 +1,212 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.common.event.ProductChangedEvent;
+import com.ecommerce.product.dto.ProductCount;
+import com.ecommerce.product.dto.ProductSearchCondition;
+import com.ecommerce.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 검색 결과 개수 계산
+ *
+ * 1. 페이지 내용만으로 알 수 있으면 카운트 쿼리 없음 (첫 페이지가 다 차지 않았거나 마지막 페이지)
+ * 2. 같은 조건의 개수를 짧은 시간(ttl-ms) 캐시
+ * 3. exact-limit 건까지만 읽어 보고, 그 이하면 정확한 개수
+ * 4. 그보다 많으면 추정값(이전 값 또는 exact-limit + 1)을 바로 반환하고, 정확한 개수는 백그라운드에서 세어 캐시 (estimated-ttl-ms)
+ *
+ * 추정값은 현재 페이지에서 알 수 있는 하한(offset + 내용 수 + 1)보다 작아지지 않게 한다.
+ * exact-limit보다 뒤의 페이지에서 다음 페이지가 없는 것으로 보이지 않도록 하기 위함이다.
+ *
+ * 관리자 화면처럼 정확한 개수가 필요하면 exactCount를 사용한다.
+ */
+@Slf4j
+@Component
+public class ProductCountProvider implements DisposableBean {
+
+    private final ProductRepository productRepository;
+    private final long exactLimit;
+    private final long ttlMillis;
+    private final long estimatedTtlMillis;
+    private final int maxSize;
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> countingKeys = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor countExecutor;
+
+    public ProductCountProvider(ProductRepository productRepository,
+                                @Value("${product.count.exact-limit:10000}") long exactLimit,
+                                @Value("${product.count.ttl-ms:5000}") long ttlMillis,
+                                @Value("${product.count.estimated-ttl-ms:60000}") long estimatedTtlMillis,
+                                @Value("${product.count.max-size:10000}") int maxSize) {
+        this.productRepository = productRepository;
+        this.exactLimit = exactLimit;
+        this.ttlMillis = ttlMillis;
+        this.estimatedTtlMillis = estimatedTtlMillis;
+        this.maxSize = maxSize;
+        // 큰 결과의 전체 카운트는 한 번에 하나씩만 (대기열이 차면 다음 요청에서 다시 시도)
+        this.countExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(100), new CustomizableThreadFactory("product-count-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 검색 결과 개수 (필요하면 추정값)
+     */
+    public ProductCount count(ProductSearchCondition condition, boolean includeDeleted, Pageable pageable, int contentSize) {
+        ProductCount fromPage = countFromPage(pageable, contentSize);
+        if (fromPage != null) {
+            return fromPage;
+        }
+
+        String key = key(condition, includeDeleted);
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        // 여기까지 오면 페이지가 다 찼으므로 (내용이 있다면) 뒤에 상품이 더 있을 수 있다
+        long lowerBound = contentSize > 0 ? pageable.getOffset() + contentSize + 1 : 0L;
+        if (entry != null && entry.expiresAt > now) {
+            if (entry.total < lowerBound) {
+                // 캐시된 뒤 상품이 늘어난 경우
+                return new ProductCount(lowerBound, true);
+            }
+            return new ProductCount(entry.total, entry.approximate);
+        }
+
+        long bounded = productRepository.countProductsUpTo(condition, includeDeleted, exactLimit);
+        if (bounded <= exactLimit) {
+            put(key, new Entry(bounded, false, now + ttlMillis));
+            return ProductCount.exact(bounded);
+        }
+
+        // 결과가 많으면 전체 카운트는 백그라운드에서 (그동안은 이전 값이나 하한값 사용)
+        countInBackground(key, condition, includeDeleted);
+        long estimate = entry != null ? Math.max(entry.total, bounded) : bounded;
+        return new ProductCount(Math.max(estimate, lowerBound), true);
+    }
+
+    /**
+     * 항상 정확한 개수 (관리자 화면용)
+     */
+    public ProductCount exactCount(ProductSearchCondition condition, boolean includeDeleted, Pageable pageable, int contentSize) {
+        ProductCount fromPage = countFromPage(pageable, contentSize);
+        if (fromPage != null) {
+            return fromPage;
+        }
+        return ProductCount.exact(productRepository.countProducts(condition, includeDeleted));
+    }
+
+    /**
+     * 상품이 바뀌면 정확한 개수로 캐시된 항목만 제거 (추정값은 원래 오차를 허용하므로 유지)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.getChangeType() == ProductChangedEvent.ChangeType.IMAGES_CHANGED) {
+            return;
+        }
+        entries.values().removeIf(entry -> !entry.approximate);
+    }
+
+    @Override
+    public void destroy() {
+        countExecutor.shutdownNow();
+    }
+
+    /**
+     * PageableExecutionUtils와 같은 방식으로 카운트 쿼리 없이 개수를 알 수 있는 경우
+     */
+    private ProductCount countFromPage(Pageable pageable, int contentSize) {
+        if (pageable.isUnpaged()) {
+            return ProductCount.exact(contentSize);
+        }
+        if (pageable.getOffset() == 0 && contentSize < pageable.getPageSize()) {
+            return ProductCount.exact(contentSize);
+        }
+        if (contentSize != 0 && contentSize < pageable.getPageSize()) {
+            return ProductCount.exact(pageable.getOffset() + contentSize);
+        }
+        return null;
+    }
+
+    private void countInBackground(String key, ProductSearchCondition condition, boolean includeDeleted) {
+        if (!countingKeys.add(key)) {
+            return;
+        }
+        try {
+            countExecutor.execute(() -> {
+                try {
+                    long started = System.currentTimeMillis();
+                    long total = productRepository.countProducts(condition, includeDeleted);
+                    put(key, new Entry(total, true, System.currentTimeMillis() + estimatedTtlMillis));
+                    log.debug("Product count refreshed: key={}, total={}, elapsedMs={}",
+                            key, total, System.currentTimeMillis() - started);
+                } catch (Exception e) {
+                    log.warn("Product count failed: key={}", key, e);
+                } finally {
+                    countingKeys.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            countingKeys.remove(key);
+        }
+    }
+
+    private void put(String key, Entry entry) {
+        if (entries.size() >= maxSize) {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(existing -> existing.expiresAt <= now);
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+        entries.put(key, entry);
+    }
+
+    /**
+     * 같은 의미의 조건은 같은 키가 되도록 정규화 (키워드 대소문자/앞뒤 공백, 가격 표기)
+     */
+    private String key(ProductSearchCondition condition, boolean includeDeleted) {
+        String keyword = StringUtils.hasText(condition.getKeyword())
+                ? condition.getKeyword().trim().toLowerCase(Locale.ROOT)
+                : "";
+        return String.join("|",
+                keyword,
+                condition.getSellerId() != null ? condition.getSellerId() : "",
+                price(condition.getMinPrice()),
+                price(condition.getMaxPrice()),
+                String.valueOf(includeDeleted));
+    }
+
+    private String price(BigDecimal price) {
+        return price != null ? price.stripTrailingZeros().toPlainString() : "";
+    }
+
+    private static final class Entry {
+
+        private final long total;
+        private final boolean approximate;
+        private final long expiresAt;
+
+        private Entry(long total, boolean approximate, long expiresAt) {
+            this.total = total;
+            this.approximate = approximate;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.common.event.ProductCacheInvalidationChannel;
+import com.ecommerce.common.event.ProductChangedEvent;
+import com.ecommerce.product.dto.ProductResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 상품 상세(ProductResponse) 캐시 (프로세스 내, LRU + TTL)
+ *
+ * 트래픽이 몰리는 일부 상품의 상세 조회가 매번 DB(상품 + 이미지)를 읽지 않도록 한다.
+ * 상품 수정/삭제/복구, 이미지 업로드/삭제 시 ProductChangedEvent(커밋 후)를 무효화 채널로 보내고,
+ * 채널에서 받은 상품 ID를 제거한다 (다른 노드에서 바뀐 상품도 같은 경로로 제거됨).
+ *
+ * 메트릭: product.detail.cache.requests{result=hit|miss}, product.detail.cache.evictions, product.detail.cache.size
+ */
+@Slf4j
+@Component
+public class ProductDetailCache {
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final ProductCacheInvalidationChannel invalidationChannel;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, Entry> entries;
+    // 조회 중에 무효화가 일어났는지 확인하기 위한 값 (변경 전 정보를 다시 캐시하지 않도록)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public ProductDetailCache(ProductCacheInvalidationChannel invalidationChannel,
+                              MeterRegistry meterRegistry,
+                              @Value("${product.detail-cache.enabled:true}") boolean enabled,
+                              @Value("${product.detail-cache.ttl-ms:30000}") long ttlMillis,
+                              @Value("${product.detail-cache.max-size:1000}") int maxSize) {
+        this.invalidationChannel = invalidationChannel;
+        this.enabled = enabled;
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+        this.hits = Counter.builder("product.detail.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("product.detail.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("product.detail.cache.evictions").register(meterRegistry);
+
+        // 접근 순서 유지 → 가장 오래 조회되지 않은 상품부터 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > ProductDetailCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        Gauge.builder("product.detail.cache.size", this, ProductDetailCache::size).register(meterRegistry);
+
+        invalidationChannel.subscribe(this::evict);
+    }
+
+    public ProductResponse get(Long productId, Function<Long, ProductResponse> loader) {
+        if (!enabled) {
+            return loader.apply(productId);
+        }
+
+        long now = System.currentTimeMillis();
+        Entry entry;
+        lock.lock();
+        try {
+            entry = entries.get(productId);
+        } finally {
+            lock.unlock();
+        }
+        if (entry != null && entry.expiresAt > now) {
+            hits.increment();
+            return entry.response;
+        }
+        misses.increment();
+
+        long invalidationsBeforeLoad = invalidations.get();
+        ProductResponse response = loader.apply(productId);
+        lock.lock();
+        try {
+            if (invalidations.get() == invalidationsBeforeLoad) {
+                entries.put(productId, new Entry(response, now + ttlMillis));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return response;
+    }
+
+    public void evict(Long productId) {
+        lock.lock();
+        try {
+            invalidations.incrementAndGet();
+            entries.remove(productId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.getChangeType() == ProductChangedEvent.ChangeType.CREATED) {
+            return;
+        }
+        invalidationChannel.publish(event.getProductId());
+        log.debug("Product detail cache invalidated: productId={}, changeType={}",
+                event.getProductId(), event.getChangeType());
+    }
+
+    private static final class Entry {
+
+        private final ProductResponse response;
+        private final long expiresAt;
+
+        private Entry(ProductResponse response, long expiresAt) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
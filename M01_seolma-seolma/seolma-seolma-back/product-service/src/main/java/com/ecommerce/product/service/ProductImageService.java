@@ -1,5 +1,6 @@
 package com.ecommerce.product.service;
 
+import com.ecommerce.common.event.ProductChangedEvent;
 import com.ecommerce.common.exception.BusinessException;
 import com.ecommerce.product.domain.Product;
 import com.ecommerce.product.domain.ProductImage;
@@ -9,11 +10,14 @@ import com.ecommerce.product.repository.ProductImageRepository;
 import com.ecommerce.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,6 +30,7 @@ public class ProductImageService {
     private final ProductRepository productRepository;
     private final ProductImageRepository productImageRepository;
     private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
     
     public List<ProductImageResponse> getProductImages(Long productId) {
         return productImageRepository.findByProductIdAndIsDeletedFalse(productId)
@@ -51,6 +56,7 @@ public class ProductImageService {
                     .build();
             
             ProductImage savedImage = productImageRepository.save(image);
+            eventPublisher.publishEvent(new ProductChangedEvent(productId, ProductChangedEvent.ChangeType.IMAGES_CHANGED));
             
             log.info("Image uploaded: productId={}, imageId={}, filename={}, sellerId={}", 
                     productId, savedImage.getId(), file.getOriginalFilename(), sellerId);
@@ -64,6 +70,42 @@ public class ProductImageService {
         }
     }
     
+    /**
+     * 스트리밍 이미지 업로드 (요청 본문을 임시 파일 없이 바로 저장소에 기록)
+     * 큰 파일을 받는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행하고, 저장 후 이미지 정보만 기록한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProductImageResponse uploadImageStream(Long productId, InputStream inputStream, String filename, String sellerId) {
+        // 상품 존재 및 권한 확인
+        Product product = findProductById(productId);
+        validateSellerAccess(product, sellerId);
+        
+        String imageUrl;
+        try {
+            imageUrl = fileStorageService.storeStream(inputStream, filename, "products");
+        } catch (IOException e) {
+            log.error("Failed to stream image: productId={}, filename={}", productId, filename, e);
+            throw new BusinessException(ProductResultCode.IMAGE_UPLOAD_FAILED);
+        }
+        
+        try {
+            ProductImage savedImage = productImageRepository.save(ProductImage.builder()
+                    .product(product)
+                    .imageUrl(imageUrl)
+                    .build());
+            eventPublisher.publishEvent(new ProductChangedEvent(productId, ProductChangedEvent.ChangeType.IMAGES_CHANGED));
+            
+            log.info("Image streamed: productId={}, imageId={}, filename={}, sellerId={}", 
+                    productId, savedImage.getId(), filename, sellerId);
+            
+            return ProductImageResponse.from(savedImage);
+        } catch (RuntimeException e) {
+            // 이미지 정보 저장에 실패하면 저장된 파일도 정리
+            fileStorageService.deleteFile(imageUrl);
+            throw e;
+        }
+    }
+    
     @Transactional
     public void deleteImage(Long productId, Long imageId, String sellerId) {
         // 상품 존재 및 권한 확인
@@ -79,16 +121,22 @@ public class ProductImageService {
             throw new BusinessException(ProductResultCode.IMAGE_NOT_FOUND);
         }
         
-        // 파일 시스템에서 파일 삭제 (선택적)
-        try {
-            fileStorageService.deleteFile(image.getImageUrl());
-        } catch (Exception e) {
-            log.warn("Failed to delete physical file: {}", image.getImageUrl(), e);
-            // 물리적 파일 삭제 실패해도 DB에서는 소프트 삭제 진행
+        // 파일 시스템에서 파일 삭제 (선택적, 썸네일 등 파생본 포함)
+        for (String fileUrl : new String[]{image.getImageUrl(), image.getThumbnailUrl(), image.getMediumUrl()}) {
+            if (fileUrl == null) {
+                continue;
+            }
+            try {
+                fileStorageService.deleteFile(fileUrl);
+            } catch (Exception e) {
+                log.warn("Failed to delete physical file: {}", fileUrl, e);
+                // 물리적 파일 삭제 실패해도 DB에서는 소프트 삭제 진행
+            }
         }
         
         // 소프트 삭제
         image.delete();
+        eventPublisher.publishEvent(new ProductChangedEvent(productId, ProductChangedEvent.ChangeType.IMAGES_CHANGED));
         
         log.info("Image deleted: productId={}, imageId={}, sellerId={}", 
                 productId, imageId, sellerId);
@@ -0,0 +1,226 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.common.event.ProductChangedEvent;
+import com.ecommerce.product.domain.ImageVariantStatus;
+import com.ecommerce.product.domain.ProductImage;
+import com.ecommerce.product.repository.ProductImageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 이미지 파생본(목록용 썸네일, 상세용 축소본) 비동기 생성
+ *
+ * - 업로드가 커밋되면 해당 상품의 대기 이미지를 작업 대기열에 넣고, 응답은 기다리지 않는다
+ * - 작업자 수와 대기열 크기를 제한하며, 대기열이 차면 이미지는 PENDING으로 남아 주기적인 점검에서 다시 처리된다
+ * - 처리 상태는 DB(variant_status)에 기록하므로 서버가 재시작되어도 이어서 처리한다
+ *   (조건부 UPDATE로 선점해 같은 이미지를 두 번 처리하지 않고, 오래 PROCESSING에 머문 이미지는 다시 대기 상태로 돌린다)
+ * - 실패하면 max-attempts까지 재시도하고, 그래도 실패하면 FAILED로 두고 원본을 사용한다
+ */
+@Slf4j
+@Component
+public class ProductImageVariantGenerator implements DisposableBean {
+
+    private static final String VARIANT_DIRECTORY = "products/variants";
+    private static final String VARIANT_FILENAME = "variant.jpg";
+
+    private final ProductImageRepository productImageRepository;
+    private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int thumbnailSize;
+    private final int mediumSize;
+    private final float jpegQuality;
+    private final long maxPixels;
+    private final int maxAttempts;
+    private final long staleMillis;
+    private final int sweepBatchSize;
+
+    // 대기열에 들어 있거나 처리 중인 이미지 (같은 이미지를 대기열에 중복으로 넣지 않음)
+    private final Set<Long> queuedImageIds = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor variantExecutor;
+
+    public ProductImageVariantGenerator(ProductImageRepository productImageRepository,
+                                        FileStorageService fileStorageService,
+                                        ApplicationEventPublisher eventPublisher,
+                                        @Value("${product.image-variant.enabled:true}") boolean enabled,
+                                        @Value("${product.image-variant.workers:2}") int workers,
+                                        @Value("${product.image-variant.queue-capacity:100}") int queueCapacity,
+                                        @Value("${product.image-variant.thumbnail-size:400}") int thumbnailSize,
+                                        @Value("${product.image-variant.medium-size:1024}") int mediumSize,
+                                        @Value("${product.image-variant.jpeg-quality:0.8}") float jpegQuality,
+                                        @Value("${product.image-variant.max-pixels:40000000}") long maxPixels,
+                                        @Value("${product.image-variant.max-attempts:3}") int maxAttempts,
+                                        @Value("${product.image-variant.stale-ms:600000}") long staleMillis,
+                                        @Value("${product.image-variant.sweep-batch-size:100}") int sweepBatchSize) {
+        this.productImageRepository = productImageRepository;
+        this.fileStorageService = fileStorageService;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.thumbnailSize = thumbnailSize;
+        this.mediumSize = mediumSize;
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+        this.maxAttempts = maxAttempts;
+        this.staleMillis = staleMillis;
+        this.sweepBatchSize = sweepBatchSize;
+        // 이미지 디코딩은 CPU와 메모리를 많이 쓰므로 작업자 수를 고정하고, 넘치는 작업은 받지 않는다
+        this.variantExecutor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("product-image-variant-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 이미지가 바뀐 상품의 대기 이미지를 작업 대기열에 추가 (커밋 후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!enabled || event.getChangeType() != ProductChangedEvent.ChangeType.IMAGES_CHANGED) {
+            return;
+        }
+        try {
+            productImageRepository.findPendingVariantImageIdsByProductId(event.getProductId(), ImageVariantStatus.PENDING)
+                    .forEach(this::submit);
+        } catch (Exception e) {
+            // 대기 상태로 남아 있으므로 주기적인 점검에서 처리된다
+            log.warn("Failed to enqueue image variants: productId={}", event.getProductId(), e);
+        }
+    }
+
+    /**
+     * 주기적인 점검: 멈춘 작업을 되돌리고, 남아 있는 대기 이미지를 오래된 순으로 처리
+     * (재시작 직후, 대기열이 가득 찼던 경우, 재시도 대기, 기존 이미지 모두 여기서 처리된다)
+     */
+    @Scheduled(initialDelayString = "${product.image-variant.initial-delay-ms:30000}",
+            fixedDelayString = "${product.image-variant.sweep-interval-ms:60000}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int released = productImageRepository.releaseStaleVariantClaims(ImageVariantStatus.PENDING,
+                    ImageVariantStatus.PROCESSING, LocalDateTime.now().minusNanos(staleMillis * 1_000_000));
+            if (released > 0) {
+                log.info("Released stale image variant claims: count={}", released);
+            }
+
+            int capacity = variantExecutor.getQueue().remainingCapacity();
+            if (capacity == 0) {
+                return;
+            }
+            List<Long> imageIds = productImageRepository.findPendingVariantImageIds(ImageVariantStatus.PENDING,
+                    PageRequest.of(0, Math.min(capacity, sweepBatchSize)));
+            imageIds.forEach(this::submit);
+        } catch (Exception e) {
+            log.error("Image variant sweep failed", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        // 처리 중이던 이미지는 PROCESSING으로 남고 stale-ms 이후 다시 대기 상태가 된다
+        variantExecutor.shutdownNow();
+    }
+
+    private void submit(Long imageId) {
+        if (!queuedImageIds.add(imageId)) {
+            return;
+        }
+        try {
+            variantExecutor.execute(() -> {
+                try {
+                    generate(imageId);
+                } finally {
+                    queuedImageIds.remove(imageId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queuedImageIds.remove(imageId);
+            log.debug("Image variant queue full, deferred to sweep: imageId={}", imageId);
+        }
+    }
+
+    private void generate(Long imageId) {
+        // 선점 (다른 작업자/노드가 이미 가져갔거나 처리가 끝났으면 0)
+        if (productImageRepository.claimVariantGeneration(imageId, ImageVariantStatus.PENDING,
+                ImageVariantStatus.PROCESSING, LocalDateTime.now()) == 0) {
+            return;
+        }
+        ProductImage image = productImageRepository.findById(imageId).orElse(null);
+        if (image == null) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        String thumbnailUrl = null;
+        String mediumUrl = null;
+        try {
+            BufferedImage source;
+            try (InputStream inputStream = fileStorageService.loadFile(image.getImageUrl())) {
+                source = ImageResizer.read(inputStream, maxPixels);
+            }
+            thumbnailUrl = store(ImageResizer.resizeToJpeg(source, thumbnailSize, jpegQuality));
+            mediumUrl = store(ImageResizer.resizeToJpeg(source, mediumSize, jpegQuality));
+
+            int updated = productImageRepository.completeVariantGeneration(imageId, thumbnailUrl, mediumUrl,
+                    ImageVariantStatus.PROCESSING, ImageVariantStatus.READY, LocalDateTime.now());
+            if (updated == 0) {
+                // 처리 도중 선점이 만료되어 다른 작업자가 가져간 경우 (그쪽 결과를 사용)
+                deleteQuietly(thumbnailUrl);
+                deleteQuietly(mediumUrl);
+                return;
+            }
+            eventPublisher.publishEvent(new ProductChangedEvent(image.getProduct().getId(),
+                    ProductChangedEvent.ChangeType.IMAGES_CHANGED));
+
+            log.info("Image variants generated: imageId={}, elapsedMs={}", imageId, System.currentTimeMillis() - startedAt);
+        } catch (Exception | OutOfMemoryError e) {
+            deleteQuietly(thumbnailUrl);
+            deleteQuietly(mediumUrl);
+            fail(image, e);
+        }
+    }
+
+    private String store(byte[] variant) throws IOException {
+        return fileStorageService.storeStream(new ByteArrayInputStream(variant), VARIANT_FILENAME, VARIANT_DIRECTORY);
+    }
+
+    private void fail(ProductImage image, Throwable cause) {
+        int attempts = (image.getVariantAttempts() != null ? image.getVariantAttempts() : 0) + 1;
+        ImageVariantStatus status = attempts >= maxAttempts ? ImageVariantStatus.FAILED : ImageVariantStatus.PENDING;
+        try {
+            productImageRepository.failVariantGeneration(image.getId(), status, attempts,
+                    ImageVariantStatus.PROCESSING, LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("Failed to record image variant failure: imageId={}", image.getId(), e);
+        }
+        log.warn("Image variant generation failed: imageId={}, attempts={}, status={}",
+                image.getId(), attempts, status, cause);
+    }
+
+    private void deleteQuietly(String fileUrl) {
+        if (fileUrl != null) {
+            fileStorageService.deleteFile(fileUrl);
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.common.event.ProductChangedEvent;
+import com.ecommerce.product.dto.ProductSearchCondition;
+import com.ecommerce.product.dto.ProductSearchDocument;
+import com.ecommerce.product.repository.ProductRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 상품명 검색용 메모리 역색인 (2-gram)
+ *
+ * LIKE '%키워드%'는 인덱스를 사용할 수 없어 검색마다 products 전체를 읽는다.
+ * 삭제되지 않은 상품의 이름을 두 글자씩 잘라 문서 번호 목록(posting)을 만들어 두고, 키워드의 두 글자 조각들의 교집합으로 후보를 찾는다.
+ * - 대소문자와 공백은 무시한다 ("갤럭시 S24"는 "갤럭시s24"로도 검색된다)
+ * - 후보는 실제 포함 여부와 판매자/가격 조건으로 다시 거른 뒤 ID만 반환하며, 상품 정보는 DB에서 ID로 조회한다
+ * - 문서 번호는 상품 ID 순서로 부여하므로 문서 번호 역순이 최신 등록순이다
+ *   (적재 이후 복구된 상품은 맨 뒤 번호를 받으므로 다음 재적재 전까지는 최신 상품처럼 정렬된다)
+ *
+ * 기동 후 백그라운드에서 전체를 적재하고, 등록/수정/삭제/복구는 커밋 후 ProductChangedEvent로 반영한다.
+ * 다른 노드에서 변경된 상품은 주기적인 전체 재적재(product.search-index.rebuild-interval-ms)로 반영된다.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    private static final int GRAM_SIZE = 2;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ProductRepository productRepository;
+    private final boolean enabled;
+    private final int loadBatchSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexData data = new IndexData();
+    private volatile boolean ready;
+
+    // 전체 재적재 중에 변경된 상품 (재적재가 끝난 뒤 다시 반영)
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    public ProductSearchIndex(ProductRepository productRepository,
+                              @Value("${product.search-index.enabled:true}") boolean enabled,
+                              @Value("${product.search-index.load-batch-size:10000}") int loadBatchSize) {
+        this.productRepository = productRepository;
+        this.enabled = enabled;
+        this.loadBatchSize = loadBatchSize;
+    }
+
+    /**
+     * 적재가 끝나 검색에 사용할 수 있는지 여부 (아니면 DB 검색 사용)
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * 조건에 맞는 상품 ID 조회
+     *
+     * @param newestFirst true면 최신 등록순, false면 오래된 순
+     */
+    public SearchResult search(ProductSearchCondition condition, boolean newestFirst, long offset, int limit) {
+        String keyword = normalize(condition.getKeyword());
+        lock.readLock().lock();
+        try {
+            return data.search(keyword, condition, newestFirst, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재적재 (기동 직후 1회 + 주기적으로)
+     * 새 색인을 따로 만든 뒤 교체하므로 적재 중에도 기존 색인으로 검색할 수 있다.
+     */
+    @Scheduled(initialDelayString = "${product.search-index.initial-delay-ms:0}",
+            fixedDelayString = "${product.search-index.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        long documentCount;
+        int gramCount;
+        rebuilding = true;
+        try {
+            IndexData newData = load();
+            documentCount = newData.documentCount();
+            gramCount = newData.postings.size();
+            lock.writeLock().lock();
+            try {
+                data = newData;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+        } catch (Exception e) {
+            log.error("Product search index rebuild failed", e);
+            return;
+        } finally {
+            rebuilding = false;
+        }
+
+        // 적재 중 변경된 상품은 새 색인에 다시 반영
+        Iterator<Long> iterator = changedDuringRebuild.iterator();
+        while (iterator.hasNext()) {
+            refresh(iterator.next());
+            iterator.remove();
+        }
+
+        log.info("Product search index rebuilt: documents={}, grams={}, elapsedMs={}",
+                documentCount, gramCount, System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        // 이미지 변경은 색인 대상(이름, 판매자, 가격)과 무관
+        if (!enabled || event.getChangeType() == ProductChangedEvent.ChangeType.IMAGES_CHANGED) {
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.add(event.getProductId());
+        }
+        refresh(event.getProductId());
+    }
+
+    /**
+     * 상품 한 건을 DB 기준으로 다시 반영 (삭제되었거나 없으면 색인에서 제거)
+     */
+    private void refresh(Long productId) {
+        ProductSearchDocument document = productRepository.findSearchDocumentById(productId).orElse(null);
+        lock.writeLock().lock();
+        try {
+            if (document == null) {
+                data.remove(productId);
+            } else {
+                data.put(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private IndexData load() {
+        IndexBuilder builder = new IndexBuilder();
+        long lastId = 0L;
+        while (true) {
+            List<ProductSearchDocument> documents =
+                    productRepository.findSearchDocumentsAfter(lastId, PageRequest.of(0, loadBatchSize));
+            if (documents.isEmpty()) {
+                break;
+            }
+            documents.forEach(builder::add);
+            lastId = documents.get(documents.size() - 1).getId();
+        }
+        return builder.build();
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(text).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class SearchResult {
+
+        private final List<Long> productIds;
+        private final long total;
+    }
+
+    /**
+     * 색인 데이터 (ProductSearchIndex의 lock으로 보호)
+     */
+    private static final class IndexData {
+
+        private final Map<Long, Integer> docIds = new HashMap<>();
+        // 문서 번호별 상품 (삭제된 상품은 null)
+        private final List<Document> documents = new ArrayList<>();
+        // 두 글자 조각별 문서 번호 목록 (오름차순)
+        private final Map<String, int[]> postings = new HashMap<>();
+
+        SearchResult search(String keyword, ProductSearchCondition condition, boolean newestFirst, long offset, int limit) {
+            int[] candidates = candidates(keyword);
+            int size = candidates != null ? candidates.length : documents.size();
+
+            List<Long> productIds = new ArrayList<>(limit);
+            long total = 0;
+            for (int i = 0; i < size; i++) {
+                int index = newestFirst ? size - 1 - i : i;
+                Document document = documents.get(candidates != null ? candidates[index] : index);
+                if (document == null || !document.matches(keyword, condition)) {
+                    continue;
+                }
+                if (total >= offset && productIds.size() < limit) {
+                    productIds.add(document.productId);
+                }
+                total++;
+            }
+            return new SearchResult(productIds, total);
+        }
+
+        /**
+         * @return 후보 문서 번호 (null이면 모든 문서가 후보)
+         */
+        private int[] candidates(String keyword) {
+            // 한 글자 검색은 조각을 만들 수 없으므로 전체 문서를 확인
+            if (keyword.length() < GRAM_SIZE) {
+                return null;
+            }
+            List<int[]> lists = new ArrayList<>();
+            for (String gram : grams(keyword)) {
+                int[] posting = postings.get(gram);
+                if (posting == null) {
+                    return new int[0];
+                }
+                lists.add(posting);
+            }
+            // 가장 짧은 목록부터 교집합
+            lists.sort(Comparator.comparingInt(list -> list.length));
+            int[] result = lists.get(0);
+            for (int i = 1; i < lists.size() && result.length > 0; i++) {
+                result = intersect(result, lists.get(i));
+            }
+            return result;
+        }
+
+        void put(ProductSearchDocument source) {
+            remove(source.getId());
+            Integer docId = docIds.get(source.getId());
+            if (docId == null) {
+                docId = documents.size();
+                documents.add(null);
+                docIds.put(source.getId(), docId);
+            }
+            Document document = new Document(source);
+            documents.set(docId, document);
+            for (String gram : grams(document.name)) {
+                int[] posting = postings.get(gram);
+                postings.put(gram, posting == null ? new int[]{docId} : insert(posting, docId));
+            }
+        }
+
+        void remove(Long productId) {
+            Integer docId = docIds.get(productId);
+            if (docId == null || documents.get(docId) == null) {
+                return;
+            }
+            Document document = documents.set(docId, null);
+            for (String gram : grams(document.name)) {
+                int[] posting = postings.get(gram);
+                if (posting == null) {
+                    continue;
+                }
+                int[] removed = delete(posting, docId);
+                if (removed.length == 0) {
+                    postings.remove(gram);
+                } else {
+                    postings.put(gram, removed);
+                }
+            }
+        }
+
+        long documentCount() {
+            return documents.stream().filter(Objects::nonNull).count();
+        }
+
+        private static int[] intersect(int[] smaller, int[] larger) {
+            int[] result = new int[smaller.length];
+            int size = 0;
+            for (int value : smaller) {
+                if (Arrays.binarySearch(larger, value) >= 0) {
+                    result[size++] = value;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        private static int[] insert(int[] posting, int value) {
+            int index = Arrays.binarySearch(posting, value);
+            if (index >= 0) {
+                return posting;
+            }
+            int position = -index - 1;
+            int[] result = new int[posting.length + 1];
+            System.arraycopy(posting, 0, result, 0, position);
+            result[position] = value;
+            System.arraycopy(posting, position, result, position + 1, posting.length - position);
+            return result;
+        }
+
+        private static int[] delete(int[] posting, int value) {
+            int index = Arrays.binarySearch(posting, value);
+            if (index < 0) {
+                return posting;
+            }
+            int[] result = new int[posting.length - 1];
+            System.arraycopy(posting, 0, result, 0, index);
+            System.arraycopy(posting, index + 1, result, index, posting.length - index - 1);
+            return result;
+        }
+    }
+
+    /**
+     * 전체 적재용 (문서 번호가 증가하는 순서로만 추가되므로 뒤에 붙이기만 해도 정렬이 유지된다)
+     */
+    private static final class IndexBuilder {
+
+        private final IndexData data = new IndexData();
+        private final Map<String, IntList> postings = new HashMap<>();
+        // 같은 판매자 ID 문자열은 하나만 유지
+        private final Map<String, String> sellerIds = new HashMap<>();
+
+        void add(ProductSearchDocument source) {
+            int docId = data.documents.size();
+            Document document = new Document(source.getId(), normalize(source.getName()),
+                    sellerIds.computeIfAbsent(source.getSellerId(), sellerId -> sellerId), source.getPrice());
+            data.documents.add(document);
+            data.docIds.put(source.getId(), docId);
+            for (String gram : grams(document.name)) {
+                postings.computeIfAbsent(gram, key -> new IntList()).add(docId);
+            }
+        }
+
+        IndexData build() {
+            postings.forEach((gram, list) -> data.postings.put(gram, list.toArray()));
+            return data;
+        }
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class Document {
+
+        private final Long productId;
+        private final String name;    // 정규화된 이름 (공백 제거, 소문자)
+        private final String sellerId;
+        private final BigDecimal price;
+
+        private Document(ProductSearchDocument source) {
+            this(source.getId(), normalize(source.getName()), source.getSellerId(), source.getPrice());
+        }
+
+        private Document(Long productId, String name, String sellerId, BigDecimal price) {
+            this.productId = productId;
+            this.name = name;
+            this.sellerId = sellerId;
+            this.price = price;
+        }
+
+        boolean matches(String keyword, ProductSearchCondition condition) {
+            if (!keyword.isEmpty() && !name.contains(keyword)) {
+                return false;
+            }
+            if (condition.getSellerId() != null && !condition.getSellerId().equals(sellerId)) {
+                return false;
+            }
+            if (condition.getMinPrice() != null && price.compareTo(condition.getMinPrice()) < 0) {
+                return false;
+            }
+            return condition.getMaxPrice() == null || price.compareTo(condition.getMaxPrice()) <= 0;
+        }
+    }
+}
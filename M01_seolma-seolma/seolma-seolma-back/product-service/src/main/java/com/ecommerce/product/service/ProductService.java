@@ -1,5 +1,6 @@
 package com.ecommerce.product.service;
 
+import com.ecommerce.common.event.ProductChangedEvent;
 import com.ecommerce.common.exception.BusinessException;
 import com.ecommerce.product.domain.Product;
 import com.ecommerce.product.dto.*;
@@ -8,14 +9,23 @@ import com.ecommerce.product.repository.ProductImageRepository;
 import com.ecommerce.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -23,8 +33,15 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ProductService {
     
+    private static final int MAX_SUMMARY_BATCH_SIZE = 100;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    
     private final ProductRepository productRepository;
     private final ProductImageRepository productImageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductCountProvider productCountProvider;
+    private final ProductDetailCache productDetailCache;
     
     @Transactional
     public ProductResponse createProduct(ProductCreateRequest request, String sellerId) {
@@ -35,37 +52,104 @@ public class ProductService {
                 .build();
         
         Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(savedProduct.getId(), ProductChangedEvent.ChangeType.CREATED));
+        
         log.info("Product created: id={}, name={}, sellerId={}", 
                 savedProduct.getId(), savedProduct.getName(), sellerId);
         
         return ProductResponse.from(savedProduct);
     }
     
+    /**
+     * 상품 상세 조회 (ProductDetailCache 경유)
+     * 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행한다 (미스 시 조회는 리포지토리 트랜잭션에서, 이미지는 EntityGraph로 함께 조회).
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProductResponse getProduct(Long productId) {
-        Product product = findProductById(productId);
-        return ProductResponse.from(product);
+        return productDetailCache.get(productId, id -> ProductResponse.from(findProductById(id)));
+    }
+    
+    /**
+     * 내부 조회용 상품 요약 (삭제된 상품도 반환하며, 판단은 호출 측에서 한다)
+     */
+    public ProductSummaryResponse getProductSummary(Long productId) {
+        return productRepository.findSummaryById(productId)
+                .orElseThrow(() -> new BusinessException(ProductResultCode.PRODUCT_NOT_FOUND));
     }
     
-    public Page<ProductResponse> getProducts(String keyword, Pageable pageable) {
+    /**
+     * 내부 조회용 상품 요약 일괄 조회 (없는 ID는 결과에서 제외)
+     */
+    public List<ProductSummaryResponse> getProductSummaries(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        if (productIds.size() > MAX_SUMMARY_BATCH_SIZE) {
+            throw new BusinessException(ProductResultCode.TOO_MANY_PRODUCT_IDS);
+        }
+        return productRepository.findSummariesByIdIn(new HashSet<>(productIds));
+    }
+    
+    public Page<ProductListResponse> getProducts(String keyword, Pageable pageable) {
         // 유효한 정렬 필드만 허용
         Pageable validatedPageable = validateAndFixPageable(pageable);
-        return productRepository.findAvailableProducts(keyword, validatedPageable)
-                .map(ProductResponse::from);
+        
+        // 키워드 검색은 메모리 색인 사용 (등록순 정렬일 때만)
+        Boolean newestFirst = indexSortOrder(validatedPageable.getSort());
+        ProductSearchCondition condition = new ProductSearchCondition(keyword, null, null, null);
+        if (StringUtils.hasText(keyword) && newestFirst != null && productSearchIndex.isReady()) {
+            return searchWithIndex(condition, newestFirst, validatedPageable);
+        }
+        
+        return searchProductList(condition, validatedPageable);
     }
     
-    public Page<ProductResponse> getProductsBySeller(String sellerId, Pageable pageable) {
-        return productRepository.findBySellerIdAndIsDeletedFalse(sellerId, pageable)
-                .map(ProductResponse::from);
+    public Page<ProductListResponse> getProductsBySeller(String sellerId, Pageable pageable) {
+        ProductSearchCondition condition = new ProductSearchCondition(null, sellerId, null, null);
+        return searchProductList(condition, validateAndFixPageable(pageable));
+    }
+    
+    public Page<ProductListResponse> searchProducts(ProductSearchCondition condition, Pageable pageable) {
+        Pageable validatedPageable = validateAndFixPageable(pageable);
+        
+        // 키워드 검색은 메모리 색인 사용 (등록순 정렬일 때만, 그 외 정렬은 DB 검색)
+        Boolean newestFirst = indexSortOrder(validatedPageable.getSort());
+        if (StringUtils.hasText(condition.getKeyword()) && newestFirst != null && productSearchIndex.isReady()) {
+            return searchWithIndex(condition, newestFirst, validatedPageable);
+        }
+        return searchProductList(condition, validatedPageable);
     }
     
-    public Page<ProductResponse> searchProducts(ProductSearchCondition condition, Pageable pageable) {
-        return productRepository.searchProducts(condition, pageable)
-                .map(ProductResponse::from);
+    /**
+     * 커서 기반 상품 검색 (무한 스크롤용, 전체 개수 조회 없음)
+     */
+    public ProductCursorResponse searchProductsByCursor(ProductSearchCondition condition, String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        List<ProductListResponse> products = productRepository.searchProductListByCursor(
+                condition, ProductCursor.decode(cursor), limit);
+        
+        boolean hasNext = products.size() > limit;
+        List<ProductListResponse> content = hasNext ? products.subList(0, limit) : products;
+        String nextCursor = hasNext ? ProductCursor.from(content.get(content.size() - 1)).encode() : null;
+        
+        return new ProductCursorResponse(
+                content,
+                content.size(),
+                hasNext,
+                nextCursor);
     }
     
-    public Page<ProductResponse> searchProductsForAdmin(ProductSearchCondition condition, Boolean includeDeleted, Pageable pageable) {
-        return productRepository.searchProductsForAdmin(condition, includeDeleted, pageable)
-                .map(ProductResponse::from);
+    /**
+     * 관리자 상품 검색 (exactCount가 true면 결과가 많아도 전체 개수를 정확히 계산)
+     */
+    public Page<ProductResponse> searchProductsForAdmin(ProductSearchCondition condition, Boolean includeDeleted,
+                                                        boolean exactCount, Pageable pageable) {
+        boolean withDeleted = Boolean.TRUE.equals(includeDeleted);
+        List<Product> products = productRepository.searchProductContent(condition, withDeleted, pageable);
+        ProductCount count = exactCount
+                ? productCountProvider.exactCount(condition, withDeleted, pageable, products.size())
+                : productCountProvider.count(condition, withDeleted, pageable, products.size());
+        return toProductPage(products, pageable, count);
     }
     
     @Transactional
@@ -77,6 +161,8 @@ public class ProductService {
         
         product.updateBasicInfo(request.getName(), request.getPrice());
         
+        eventPublisher.publishEvent(new ProductChangedEvent(productId, ProductChangedEvent.ChangeType.UPDATED));
+        
         log.info("Product updated: id={}, name={}, sellerId={}", 
                 productId, request.getName(), sellerId);
         
@@ -90,6 +176,8 @@ public class ProductService {
         
         product.updateBasicInfo(request.getName(), request.getPrice());
         
+        eventPublisher.publishEvent(new ProductChangedEvent(productId, ProductChangedEvent.ChangeType.UPDATED));
+        
         log.info("Product updated by admin: id={}, name={}, adminId={}", 
                 productId, request.getName(), adminId);
         
@@ -113,6 +201,8 @@ public class ProductService {
         // 해당 상품의 모든 이미지도 소프트 삭제
         int deletedImageCount = productImageRepository.softDeleteByProductId(productId);
         
+        eventPublisher.publishEvent(new ProductChangedEvent(productId, ProductChangedEvent.ChangeType.DELETED));
+        
         log.info("Product deleted: productId={}, sellerId={}, deletedImageCount={}", 
                 productId, sellerId, deletedImageCount);
     }
@@ -128,9 +218,66 @@ public class ProductService {
         
         product.restore();
         
+        eventPublisher.publishEvent(new ProductChangedEvent(productId, ProductChangedEvent.ChangeType.RESTORED));
+        
         log.info("Product restored by admin: productId={}, adminId={}", productId, adminId);
     }
     
+    /**
+     * 색인에서 ID 목록과 전체 개수를 구하고, 상품 정보는 ID로 한 번에 조회
+     */
+    private Page<ProductListResponse> searchWithIndex(ProductSearchCondition condition, boolean newestFirst, Pageable pageable) {
+        ProductSearchIndex.SearchResult result = productSearchIndex.search(
+                condition, newestFirst, pageable.getOffset(), pageable.getPageSize());
+        if (result.getProductIds().isEmpty()) {
+            return new ProductPage<>(List.of(), pageable, result.getTotal(), false);
+        }
+        
+        Map<Long, ProductListResponse> products = productRepository.findProductListByIds(result.getProductIds()).stream()
+                .collect(Collectors.toMap(ProductListResponse::getId, Function.identity()));
+        List<ProductListResponse> content = result.getProductIds().stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new ProductPage<>(content, pageable, result.getTotal(), false);
+    }
+    
+    /**
+     * 목록 화면용 조회 (대표 이미지만 포함한 목록 + 필요한 경우에만 전체 개수)
+     */
+    private Page<ProductListResponse> searchProductList(ProductSearchCondition condition, Pageable pageable) {
+        List<ProductListResponse> content = productRepository.searchProductList(condition, pageable);
+        ProductCount count = productCountProvider.count(condition, false, pageable, content.size());
+        return new ProductPage<>(content, pageable, count.getTotal(), count.isApproximate());
+    }
+    
+    private Page<ProductResponse> toProductPage(List<Product> products, Pageable pageable, ProductCount count) {
+        List<ProductResponse> content = products.stream()
+                .map(ProductResponse::from)
+                .toList();
+        return new ProductPage<>(content, pageable, count.getTotal(), count.isApproximate());
+    }
+    
+    /**
+     * 색인으로 처리할 수 있는 정렬인지 확인 (색인은 등록순 = ID 순으로만 정렬 가능)
+     *
+     * @return 최신순이면 true, 오래된 순이면 false, 색인으로 처리할 수 없으면 null
+     */
+    private Boolean indexSortOrder(Sort sort) {
+        if (sort.isUnsorted()) {
+            return true;
+        }
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() != 1) {
+            return null;
+        }
+        Sort.Order order = orders.get(0);
+        if (!"id".equals(order.getProperty()) && !"createdAt".equals(order.getProperty())) {
+            return null;
+        }
+        return order.isDescending();
+    }
+    
     private Product findProductById(Long productId) {
         return productRepository.findByIdAndIsDeletedFalse(productId)
                 .orElseThrow(() -> new BusinessException(ProductResultCode.PRODUCT_NOT_FOUND));
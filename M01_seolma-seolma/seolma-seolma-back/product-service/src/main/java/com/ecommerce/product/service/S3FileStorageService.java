@@ -1,17 +1,24 @@
 package com.ecommerce.product.service;
 
+import com.ecommerce.common.exception.BusinessException;
+import com.ecommerce.product.exception.ProductResultCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -33,41 +40,72 @@ public class S3FileStorageService implements FileStorageService {
     @Value("${aws.s3.cloudfront-domain:}")
     private String cloudfrontDomain;
     
+    // 로컬 테스트용 S3 호환 저장소 주소 (예: http://localhost:9000, 비어 있으면 AWS S3)
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+    
+    // 멀티파트 업로드 파트 크기 (S3 최소 5MB, 업로드 한 건당 메모리 사용량)
+    @Value("${aws.s3.upload-part-size:5242880}")
+    private int partSize;
+    
+    @Value("${app.upload.max-file-size:5242880}") // 5MB
+    private long maxFileSize;
+    
     @Override
     public String storeFile(MultipartFile file, String directory) throws IOException {
-        System.out.println("=== S3FileStorageService.storeFile called ===");
-        System.out.println("Bucket: " + bucketName);
-        System.out.println("Region: " + region);
-        System.out.println("Directory: " + directory);
+        if (file.getSize() > maxFileSize) {
+            throw new BusinessException(ProductResultCode.IMAGE_SIZE_EXCEEDED);
+        }
+        try (InputStream inputStream = file.getInputStream()) {
+            return storeStream(inputStream, file.getOriginalFilename(), directory);
+        }
+    }
+    
+    @Override
+    public String storeStream(InputStream inputStream, String originalFilename, String directory) throws IOException {
+        String extension = ImageUploadStream.extension(originalFilename);
+        String key = directory + "/" + generateUniqueFileName(extension);
+        String contentType = ImageUploadStream.contentType(extension);
+        
+        ImageUploadStream uploadStream = ImageUploadStream.open(inputStream, originalFilename, maxFileSize);
+        // 업로드 한 건이 쓰는 메모리는 파트 버퍼 하나 (파트 크기 단위로 읽어서 바로 전송)
+        byte[] buffer = new byte[partSize];
+        int firstLength = uploadStream.readNBytes(buffer, 0, partSize);
         
         try {
-            String key = directory + "/" + generateUniqueFileName(file);
-            
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .contentType(file.getContentType())
-                    .build();
-            
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(
-                    file.getInputStream(), file.getSize()));
-            
-            // CloudFront 도메인이 설정되어 있으면 CloudFront URL 반환, 아니면 S3 URL 반환
-            String resultUrl;
-            if (cloudfrontDomain != null && !cloudfrontDomain.isEmpty()) {
-                resultUrl = String.format("https://%s/%s", cloudfrontDomain, key);
+            if (firstLength < partSize) {
+                // 파트 하나에 들어가는 작은 파일은 한 번에 업로드
+                s3Client.putObject(PutObjectRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .contentType(contentType)
+                                .build(),
+                        requestBody(buffer, firstLength, contentType));
             } else {
-                resultUrl = String.format("https://%s.s3.%s.amazonaws.com/%s", 
-                        bucketName, region, key);
+                uploadMultipart(key, contentType, uploadStream, buffer, firstLength);
             }
-            
-            System.out.println("S3 Upload Success - URL: " + resultUrl);
-            return resultUrl;
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
-            System.out.println("S3 Upload Failed: " + e.getMessage());
-            log.error("Failed to upload file to S3: {}", file.getOriginalFilename(), e);
+            log.error("Failed to upload file to S3: {}", originalFilename, e);
             throw new IOException("S3 파일 업로드 실패", e);
         }
+        
+        String resultUrl = toUrl(key);
+        log.info("File uploaded to S3: {}, size={}", resultUrl, uploadStream.getBytesRead());
+        return resultUrl;
+    }
+    
+    @Override
+    public InputStream loadFile(String fileUrl) throws IOException {
+        try {
+            return s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(extractKeyFromUrl(fileUrl))
+                    .build());
+        } catch (Exception e) {
+            throw new IOException("S3 파일 조회 실패: " + fileUrl, e);
+        }
     }
     
     @Override
@@ -109,14 +147,91 @@ public class S3FileStorageService implements FileStorageService {
         }
     }
     
-    private String generateUniqueFileName(MultipartFile file) {
-        String originalFilename = file.getOriginalFilename();
-        String extension = getFileExtension(originalFilename);
+    /**
+     * 멀티파트 업로드 (실패하면 업로드 중단 요청으로 이미 올린 파트 정리)
+     */
+    private void uploadMultipart(String key, String contentType, InputStream inputStream,
+                                 byte[] buffer, int firstLength) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .build())
+                .uploadId();
+        
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            int length = firstLength;
+            int partNumber = 1;
+            while (length > 0) {
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) length)
+                                .build(),
+                        requestBody(buffer, length, contentType));
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+                
+                partNumber++;
+                length = inputStream.readNBytes(buffer, 0, buffer.length);
+            }
+            
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (RuntimeException | IOException e) {
+            abortMultipartUpload(key, uploadId);
+            throw e;
+        }
+    }
+    
+    private void abortMultipartUpload(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (Exception e) {
+            log.warn("Failed to abort S3 multipart upload: key={}, uploadId={}", key, uploadId, e);
+        }
+    }
+    
+    /**
+     * 버퍼를 복사하지 않고 그대로 전송하는 요청 본문
+     */
+    private RequestBody requestBody(byte[] buffer, int length, String contentType) {
+        return RequestBody.fromContentProvider(() -> new ByteArrayInputStream(buffer, 0, length), length, contentType);
+    }
+    
+    private String toUrl(String key) {
+        // 로컬 S3 호환 저장소(MinIO 등)를 쓰는 경우 path-style URL
+        if (StringUtils.hasText(endpoint)) {
+            return String.format("%s/%s/%s", trimTrailingSlash(endpoint), bucketName, key);
+        }
+        // CloudFront 도메인이 설정되어 있으면 CloudFront URL 반환, 아니면 S3 URL 반환
+        if (cloudfrontDomain != null && !cloudfrontDomain.isEmpty()) {
+            return String.format("https://%s/%s", cloudfrontDomain, key);
+        }
+        return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, key);
+    }
+    
+    private String generateUniqueFileName(String extension) {
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
         return timestamp + "_" + UUID.randomUUID().toString() + "." + extension;
     }
     
     private String extractKeyFromUrl(String fileUrl) {
+        // 로컬 S3 호환 저장소 URL인 경우 (endpoint/bucket/key)
+        String endpointPrefix = StringUtils.hasText(endpoint) ? trimTrailingSlash(endpoint) + "/" + bucketName + "/" : null;
+        if (endpointPrefix != null && fileUrl.startsWith(endpointPrefix)) {
+            return fileUrl.substring(endpointPrefix.length());
+        }
         // CloudFront URL인 경우
         if (cloudfrontDomain != null && !cloudfrontDomain.isEmpty() && fileUrl.contains(cloudfrontDomain)) {
             return fileUrl.substring(fileUrl.indexOf(cloudfrontDomain) + cloudfrontDomain.length() + 1);
@@ -132,14 +247,7 @@ public class S3FileStorageService implements FileStorageService {
         }
     }
     
-    private String getFileExtension(String filename) {
-        if (filename == null || filename.isEmpty()) {
-            return "";
-        }
-        int lastDotIndex = filename.lastIndexOf('.');
-        if (lastDotIndex == -1) {
-            return "";
-        }
-        return filename.substring(lastDotIndex + 1);
+    private String trimTrailingSlash(String value) {
+        return value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
     }
 }
\ No newline at end of file
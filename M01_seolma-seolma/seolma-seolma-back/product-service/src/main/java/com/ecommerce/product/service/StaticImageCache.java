@@ -0,0 +1,120 @@
+package com.ecommerce.product.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로컬 이미지 파일 메모리 캐시 (작은 파일만, 전체 바이트 수 기준 LRU)
+ *
+ * 목록 썸네일처럼 작고 자주 요청되는 파일을 매번 디스크에서 읽지 않도록 한다.
+ * 업로드 파일명에 UUID가 들어가 내용이 바뀌지 않으므로, 크기와 수정 시각이 같으면 같은 파일로 본다.
+ *
+ * 메트릭: product.image.cache.requests{result=hit|miss}, product.image.cache.evictions, product.image.cache.bytes
+ */
+@Component
+public class StaticImageCache {
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long maxFileSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // 접근 순서 유지 → 가장 오래 요청되지 않은 파일부터 제거
+    private final LinkedHashMap<Path, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public StaticImageCache(MeterRegistry meterRegistry,
+                            @Value("${product.static-image.cache-enabled:true}") boolean enabled,
+                            @Value("${product.static-image.cache-max-bytes:67108864}") long maxBytes,
+                            @Value("${product.static-image.cache-max-file-size:262144}") long maxFileSize) {
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.maxFileSize = maxFileSize;
+        this.hits = Counter.builder("product.image.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("product.image.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("product.image.cache.evictions").register(meterRegistry);
+        Gauge.builder("product.image.cache.bytes", this, StaticImageCache::bytes).register(meterRegistry);
+    }
+
+    /**
+     * 캐시 대상 크기인지 여부
+     */
+    public boolean isCacheable(long size) {
+        return enabled && size <= maxFileSize && size <= maxBytes;
+    }
+
+    /**
+     * 파일 내용 (없으면 읽어서 캐시)
+     *
+     * @param size         요청 시점에 확인한 파일 크기
+     * @param lastModified 요청 시점에 확인한 수정 시각 (ms)
+     */
+    public byte[] get(Path file, long size, long lastModified) throws IOException {
+        lock.lock();
+        try {
+            Entry entry = entries.get(file);
+            if (entry != null && entry.lastModified == lastModified && entry.content.length == size) {
+                hits.increment();
+                return entry.content;
+            }
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+
+        byte[] content = Files.readAllBytes(file);
+        if (content.length != size) {
+            // 읽는 사이에 파일이 바뀐 경우 (캐시하지 않음)
+            return content;
+        }
+        lock.lock();
+        try {
+            Entry previous = entries.put(file, new Entry(content, lastModified));
+            totalBytes += content.length - (previous != null ? previous.content.length : 0);
+            Iterator<Map.Entry<Path, Entry>> iterator = entries.entrySet().iterator();
+            while (totalBytes > maxBytes && iterator.hasNext()) {
+                totalBytes -= iterator.next().getValue().content.length;
+                iterator.remove();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return content;
+    }
+
+    public long bytes() {
+        lock.lock();
+        try {
+            return totalBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Entry {
+
+        private final byte[] content;
+        private final long lastModified;
+
+        private Entry(byte[] content, long lastModified) {
+            this.content = content;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.ecommerce.product.controller;
+
+import com.ecommerce.product.service.StaticImageCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StaticImageServletTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private StaticImageServlet staticImageServlet;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.createDirectories(uploadDir.resolve("products"));
+        Files.write(uploadDir.resolve("products/photo.png"), "0123456789".getBytes());
+        Files.write(uploadDir.resolve("products/.photo.png.part"), "partial".getBytes());
+        StaticImageCache cache = new StaticImageCache(new SimpleMeterRegistry(), true, 1024, 1024);
+        staticImageServlet = new StaticImageServlet(uploadDir, cache, 31536000, 49152);
+    }
+
+    @Test
+    @DisplayName("이미지 조회 - 캐시 헤더 포함, 같은 ETag로 다시 요청하면 304")
+    void get_CacheHeadersAndNotModified() throws Exception {
+        // given
+        MockHttpServletResponse first = get("/products/photo.png", null, null);
+
+        // when
+        MockHttpServletResponse second = get("/products/photo.png", first.getHeader("ETag"), null);
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(first.getContentType()).isEqualTo("image/png");
+        assertThat(first.getContentAsString()).isEqualTo("0123456789");
+        assertThat(first.getHeader("Cache-Control")).isEqualTo("public, max-age=31536000, immutable");
+        assertThat(first.getHeader("Last-Modified")).isNotNull();
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Range 요청 - 206 부분 응답, 범위 밖이면 416, 임시 파일과 디렉토리 밖 경로는 404")
+    void get_RangeAndNotFound() throws Exception {
+        // when
+        MockHttpServletResponse partial = get("/products/photo.png", null, "bytes=2-5");
+        MockHttpServletResponse suffix = get("/products/photo.png", null, "bytes=-3");
+        MockHttpServletResponse unsatisfiable = get("/products/photo.png", null, "bytes=20-");
+
+        // then
+        assertThat(partial.getStatus()).isEqualTo(206);
+        assertThat(partial.getHeader("Content-Range")).isEqualTo("bytes 2-5/10");
+        assertThat(partial.getContentAsString()).isEqualTo("2345");
+        assertThat(suffix.getContentAsString()).isEqualTo("789");
+        assertThat(unsatisfiable.getStatus()).isEqualTo(416);
+        assertThat(unsatisfiable.getHeader("Content-Range")).isEqualTo("bytes */10");
+        assertThat(get("/products/.photo.png.part", null, null).getStatus()).isEqualTo(404);
+        assertThat(get("/../photo.png", null, null).getStatus()).isEqualTo(404);
+    }
+
+    private MockHttpServletResponse get(String pathInfo, String ifNoneMatch, String range) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images" + pathInfo);
+        request.setServletPath("/images");
+        request.setPathInfo(pathInfo);
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        if (range != null) {
+            request.addHeader("Range", range);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        staticImageServlet.service(request, response);
+        return response;
+    }
+}
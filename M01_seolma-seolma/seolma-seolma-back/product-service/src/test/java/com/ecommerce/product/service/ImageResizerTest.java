@@ -0,0 +1,48 @@
+package com.ecommerce.product.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ImageResizerTest {
+
+    @Test
+    @DisplayName("긴 변 기준으로 비율을 유지해 축소, 작은 이미지는 확대하지 않음")
+    void resizeToJpeg_KeepsAspectRatio() throws Exception {
+        // given
+        BufferedImage source = ImageResizer.read(new ByteArrayInputStream(png(1600, 800)), 40_000_000L);
+
+        // when
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(ImageResizer.resizeToJpeg(source, 400, 0.8f)));
+        BufferedImage original = ImageIO.read(new ByteArrayInputStream(ImageResizer.resizeToJpeg(source, 4000, 0.8f)));
+
+        // then
+        assertThat(thumbnail.getWidth()).isEqualTo(400);
+        assertThat(thumbnail.getHeight()).isEqualTo(200);
+        assertThat(original.getWidth()).isEqualTo(1600);
+        assertThat(original.getHeight()).isEqualTo(800);
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 형식이거나 최대 픽셀 수를 넘으면 예외")
+    void read_Invalid() throws Exception {
+        // when & then
+        assertThatThrownBy(() -> ImageResizer.read(new ByteArrayInputStream(new byte[]{1, 2, 3}), 40_000_000L))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> ImageResizer.read(new ByteArrayInputStream(png(100, 100)), 9_999L))
+                .isInstanceOf(IOException.class);
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", output);
+        return output.toByteArray();
+    }
+}
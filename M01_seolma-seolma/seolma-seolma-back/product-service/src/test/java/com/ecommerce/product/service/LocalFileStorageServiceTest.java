@@ -0,0 +1,72 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.common.exception.BusinessException;
+import com.ecommerce.product.exception.ProductResultCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LocalFileStorageServiceTest {
+
+    private static final byte[] PNG_HEADER = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    @TempDir
+    Path uploadDir;
+
+    private LocalFileStorageService localFileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        localFileStorageService = new LocalFileStorageService();
+        ReflectionTestUtils.setField(localFileStorageService, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(localFileStorageService, "maxFileSize", 1024L);
+    }
+
+    @Test
+    @DisplayName("스트리밍 저장 - 최종 위치에 그대로 기록되고 임시 파일은 남지 않음")
+    void storeStream_Success() throws Exception {
+        // given
+        byte[] image = png(1000);
+
+        // when
+        String fileUrl = localFileStorageService.storeStream(new ByteArrayInputStream(image), "photo.PNG", "products");
+
+        // then
+        assertThat(fileUrl).startsWith("/images/products/").endsWith(".png");
+        assertThat(Files.readAllBytes(uploadDir.resolve(fileUrl.substring("/images/".length())))).isEqualTo(image);
+        try (Stream<Path> files = Files.list(uploadDir.resolve("products"))) {
+            assertThat(files).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("스트리밍 저장 실패 - 크기 초과, 확장자와 다른 파일 형식")
+    void storeStream_Invalid() throws Exception {
+        // when & then
+        assertThatThrownBy(() -> localFileStorageService.storeStream(new ByteArrayInputStream(png(2000)), "photo.png", "products"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("resultCode").isEqualTo(ProductResultCode.IMAGE_SIZE_EXCEEDED);
+        assertThatThrownBy(() -> localFileStorageService.storeStream(new ByteArrayInputStream(png(100)), "photo.jpg", "products"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("resultCode").isEqualTo(ProductResultCode.INVALID_IMAGE_FORMAT);
+        try (Stream<Path> files = Files.list(uploadDir.resolve("products"))) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private byte[] png(int size) {
+        byte[] image = Arrays.copyOf(PNG_HEADER, size);
+        Arrays.fill(image, PNG_HEADER.length, size, (byte) 7);
+        return image;
+    }
+}
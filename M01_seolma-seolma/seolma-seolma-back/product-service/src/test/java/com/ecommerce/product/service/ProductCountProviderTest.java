@@ -0,0 +1,90 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.ProductCount;
+import com.ecommerce.product.dto.ProductPage;
+import com.ecommerce.product.dto.ProductSearchCondition;
+import com.ecommerce.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+class ProductCountProviderTest {
+
+    private static final long EXACT_LIMIT = 100;
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductCountProvider productCountProvider =
+            new ProductCountProvider(productRepository, EXACT_LIMIT, 5000, 60000, 100);
+    private final ProductSearchCondition condition = new ProductSearchCondition("케이스", null, null, null);
+
+    @AfterEach
+    void tearDown() {
+        productCountProvider.destroy();
+    }
+
+    @Test
+    @DisplayName("exact-limit 이하면 정확한 개수")
+    void count_WithinLimit_Exact() {
+        // given
+        given(productRepository.countProductsUpTo(condition, false, EXACT_LIMIT)).willReturn(42L);
+
+        // when
+        ProductCount count = productCountProvider.count(condition, false, PageRequest.of(0, 20), 20);
+
+        // then
+        assertThat(count.getTotal()).isEqualTo(42L);
+        assertThat(count.isApproximate()).isFalse();
+    }
+
+    @Test
+    @DisplayName("exact-limit을 넘으면 하한값을 추정값으로 반환하고 전체 개수는 백그라운드에서 계산")
+    void count_OverLimit_Estimated() {
+        // given
+        given(productRepository.countProductsUpTo(condition, false, EXACT_LIMIT)).willReturn(EXACT_LIMIT + 1);
+        given(productRepository.countProducts(condition, false)).willReturn(5000L);
+
+        // when
+        ProductCount count = productCountProvider.count(condition, false, PageRequest.of(0, 20), 20);
+
+        // then
+        assertThat(count.getTotal()).isEqualTo(EXACT_LIMIT + 1);
+        assertThat(count.isApproximate()).isTrue();
+        verify(productRepository, timeout(5000)).countProducts(condition, false);
+    }
+
+    @Test
+    @DisplayName("exact-limit보다 뒤의 꽉 찬 페이지는 다음 페이지가 있는 것으로 추정")
+    void count_DeepOffset_HasNext() {
+        // given: 11번째 페이지 (offset 200) > exact-limit 100
+        given(productRepository.countProductsUpTo(condition, false, EXACT_LIMIT)).willReturn(EXACT_LIMIT + 1);
+        Pageable pageable = PageRequest.of(10, 20);
+
+        // when
+        ProductCount count = productCountProvider.count(condition, false, pageable, 20);
+
+        // then
+        assertThat(count.getTotal()).isGreaterThan(pageable.getOffset() + 20);
+        assertThat(count.isApproximate()).isTrue();
+        assertThat(new ProductPage<>(Collections.nCopies(20, "상품"), pageable, count.getTotal(), true).hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 카운트 쿼리 없이 정확한 개수")
+    void count_LastPage_NoQuery() {
+        // when
+        ProductCount count = productCountProvider.count(condition, false, PageRequest.of(10, 20), 7);
+
+        // then
+        assertThat(count.getTotal()).isEqualTo(207L);
+        assertThat(count.isApproximate()).isFalse();
+        verify(productRepository, never()).countProductsUpTo(any(), anyBoolean(), anyLong());
+    }
+}
@@ -0,0 +1,75 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.common.event.LocalProductCacheInvalidationChannel;
+import com.ecommerce.common.event.ProductChangedEvent;
+import com.ecommerce.product.dto.ProductResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ProductDetailCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductDetailCache productDetailCache;
+    private AtomicInteger loads;
+    private Function<Long, ProductResponse> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        productDetailCache = new ProductDetailCache(new LocalProductCacheInvalidationChannel(), meterRegistry, true, 60000, 2);
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            return product(id);
+        };
+    }
+
+    @Test
+    @DisplayName("같은 상품 재조회는 캐시 적중, 최대 크기를 넘으면 가장 오래 조회되지 않은 상품 제거")
+    void get_HitAndLruEviction() {
+        // given
+        productDetailCache.get(1L, loader);
+        productDetailCache.get(2L, loader);
+        productDetailCache.get(1L, loader);
+
+        // when
+        productDetailCache.get(3L, loader);
+        productDetailCache.get(1L, loader);
+        productDetailCache.get(2L, loader);
+
+        // then
+        assertThat(loads.get()).isEqualTo(4);
+        assertThat(productDetailCache.size()).isEqualTo(2);
+        assertThat(meterRegistry.get("product.detail.cache.requests").tag("result", "hit").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("product.detail.cache.evictions").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상품 변경 이벤트 - 무효화 채널을 통해 캐시에서 제거됨")
+    void onProductChanged_Evict() {
+        // given
+        productDetailCache.get(1L, loader);
+
+        // when
+        productDetailCache.onProductChanged(new ProductChangedEvent(1L, ProductChangedEvent.ChangeType.IMAGES_CHANGED));
+        productDetailCache.get(1L, loader);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private ProductResponse product(Long id) {
+        return new ProductResponse(id, "상품" + id, "seller1", BigDecimal.valueOf(10000),
+                false, true, LocalDateTime.now(), List.of());
+    }
+}
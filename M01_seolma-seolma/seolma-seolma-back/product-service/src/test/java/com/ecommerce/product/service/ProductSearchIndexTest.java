@@ -0,0 +1,92 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.common.event.ProductChangedEvent;
+import com.ecommerce.product.dto.ProductSearchCondition;
+import com.ecommerce.product.dto.ProductSearchDocument;
+import com.ecommerce.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex = new ProductSearchIndex(productRepository, true, 100);
+        given(productRepository.findSearchDocumentsAfter(eq(0L), any())).willReturn(List.of(
+                document(1L, "갤럭시 S24 울트라", "seller1", 1500000),
+                document(2L, "아이폰 15 케이스", "seller2", 20000),
+                document(3L, "갤럭시 S24 케이스", "seller2", 15000),
+                document(4L, "갤럭시 버즈", "seller1", 150000)));
+        given(productRepository.findSearchDocumentsAfter(eq(4L), any())).willReturn(List.of());
+        productSearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("키워드 검색 - 공백/대소문자 무시, 최신 등록순, 전체 개수 반환")
+    void search_Keyword() {
+        // when
+        ProductSearchIndex.SearchResult result = productSearchIndex.search(condition("갤럭시s24", null, null), true, 0, 10);
+
+        // then
+        assertThat(productSearchIndex.isReady()).isTrue();
+        assertThat(result.getProductIds()).containsExactly(3L, 1L);
+        assertThat(result.getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("키워드 + 판매자 + 가격 조건 검색과 페이징")
+    void search_KeywordWithFilters() {
+        // when
+        ProductSearchIndex.SearchResult filtered = productSearchIndex.search(condition("케이스", "seller2", 16000), true, 0, 10);
+        ProductSearchIndex.SearchResult secondPage = productSearchIndex.search(condition("갤럭시", null, null), true, 1, 1);
+
+        // then
+        assertThat(filtered.getProductIds()).containsExactly(3L);
+        assertThat(secondPage.getProductIds()).containsExactly(3L);
+        assertThat(secondPage.getTotal()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("상품 변경 이벤트 - 수정/삭제가 색인에 반영됨")
+    void onProductChanged_UpdateIndex() {
+        // given
+        given(productRepository.findSearchDocumentById(2L))
+                .willReturn(Optional.of(document(2L, "갤럭시 S24 필름", "seller2", 10000)));
+        given(productRepository.findSearchDocumentById(4L)).willReturn(Optional.empty());
+
+        // when
+        productSearchIndex.onProductChanged(new ProductChangedEvent(2L, ProductChangedEvent.ChangeType.UPDATED));
+        productSearchIndex.onProductChanged(new ProductChangedEvent(4L, ProductChangedEvent.ChangeType.DELETED));
+
+        // then
+        assertThat(productSearchIndex.search(condition("갤럭시", null, null), true, 0, 10).getProductIds())
+                .containsExactly(3L, 2L, 1L);
+        assertThat(productSearchIndex.search(condition("아이폰", null, null), true, 0, 10).getTotal()).isZero();
+    }
+
+    private ProductSearchCondition condition(String keyword, String sellerId, Integer maxPrice) {
+        return new ProductSearchCondition(keyword, sellerId, null, maxPrice != null ? BigDecimal.valueOf(maxPrice) : null);
+    }
+
+    private ProductSearchDocument document(Long id, String name, String sellerId, int price) {
+        return new ProductSearchDocument(id, name, sellerId, BigDecimal.valueOf(price));
+    }
+}
@@ -2,6 +2,7 @@ package com.ecommerce.user.config;
 
 import com.ecommerce.common.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -23,9 +24,12 @@ public class UserSecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CorsConfigurationSource corsConfigurationSource;
     
+    /**
+     * BCrypt strength를 올리면 기존 사용자는 다음 로그인 시 새 strength로 다시 해시된다
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
     
     @Bean
@@ -35,8 +39,7 @@ public class UserSecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
-                // Internal API endpoints (서비스 간 통신용 - 인증 불필요)
-                .requestMatchers("/api/v1/internal/**", "/api/internal/**", "/internal/**").permitAll()
+                // Internal API endpoints는 InternalSecurityConfig의 전용 체인에서 서명으로 인증
                 // Static resources (이미지 등)
                 .requestMatchers("/images/**").permitAll()
                 // User Service endpoints
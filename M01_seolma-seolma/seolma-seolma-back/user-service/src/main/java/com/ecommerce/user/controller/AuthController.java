@@ -5,12 +5,15 @@ import com.ecommerce.user.dto.LoginIdCheckResponse;
 import com.ecommerce.user.dto.LoginRequest;
 import com.ecommerce.user.dto.LoginResponse;
 import com.ecommerce.user.dto.SignupRequest;
+import com.ecommerce.user.dto.TokenRefreshResponse;
 import com.ecommerce.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
 @Tag(name = "인증", description = "사용자 인증 관련 API")
@@ -20,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
     
     private final UserService userService;
+    private final RefreshTokenCookies refreshTokenCookies;
     
     @Operation(
         summary = "회원가입", 
@@ -33,14 +37,43 @@ public class AuthController {
     
     @Operation(
         summary = "로그인", 
-        description = "사용자 로그인을 처리하고 JWT 토큰을 발급합니다"
+        description = "사용자 로그인을 처리하고 JWT 토큰을 발급합니다. 리프레시 토큰은 HttpOnly 쿠키로 발급합니다."
     )
     @PostMapping("/login")
-    public ApiResponse<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
+    public ApiResponse<LoginResponse> login(@Valid @RequestBody LoginRequest request,
+                                            HttpServletResponse servletResponse) {
         LoginResponse response = userService.login(request);
+        servletResponse.addHeader(HttpHeaders.SET_COOKIE, refreshTokenCookies.create(response.getRefreshToken()));
         return ApiResponse.success(response);
     }
     
+    @Operation(
+        summary = "액세스 토큰 재발급", 
+        description = "리프레시 토큰 쿠키로 새 액세스 토큰을 발급합니다 (비밀번호 검증 없음)"
+    )
+    @PostMapping("/refresh")
+    public ApiResponse<TokenRefreshResponse> refresh(
+            @CookieValue(name = RefreshTokenCookies.NAME, required = false) String refreshToken) {
+        return ApiResponse.success(userService.refresh(refreshToken));
+    }
+    
+    @Operation(
+        summary = "로그아웃", 
+        description = "액세스 토큰과 리프레시 토큰을 폐기하고 리프레시 토큰 쿠키를 삭제합니다"
+    )
+    @PostMapping("/logout")
+    public ApiResponse<Void> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @CookieValue(name = RefreshTokenCookies.NAME, required = false) String refreshToken,
+            HttpServletResponse servletResponse) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+        userService.logout(accessToken, refreshToken);
+        servletResponse.addHeader(HttpHeaders.SET_COOKIE, refreshTokenCookies.clear());
+        return ApiResponse.success();
+    }
+    
     @Operation(
         summary = "로그인 아이디 중복확인", 
         description = "회원가입 시 로그인 아이디의 사용 가능 여부를 확인합니다"
@@ -68,7 +101,7 @@ public class AuthController {
         LoginIdCheckResponse response = available 
             ? LoginIdCheckResponse.available(loginId)
             : LoginIdCheckResponse.unavailable(loginId);
-            
+        
         return ApiResponse.success(response);
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.ecommerce.user.controller;
+
+import com.ecommerce.common.security.JwtTokenProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리프레시 토큰 쿠키 (HttpOnly, 인증 API 경로로만 전송)
+ */
+@Component
+public class RefreshTokenCookies {
+    
+    public static final String NAME = "refreshToken";
+    private static final String PATH = "/api/v1/users/auth";
+    
+    private final long maxAgeSeconds;
+    private final boolean secure;
+    private final String sameSite;
+    
+    public RefreshTokenCookies(JwtTokenProvider jwtTokenProvider,
+                               @Value("${jwt.refresh-cookie.secure:false}") boolean secure,
+                               @Value("${jwt.refresh-cookie.same-site:Lax}") String sameSite) {
+        this.maxAgeSeconds = jwtTokenProvider.getRefreshTokenValidityInSeconds();
+        this.secure = secure;
+        this.sameSite = sameSite;
+    }
+    
+    public String create(String refreshToken) {
+        return build(refreshToken, maxAgeSeconds);
+    }
+    
+    public String clear() {
+        return build("", 0);
+    }
+    
+    private String build(String value, long maxAge) {
+        return ResponseCookie.from(NAME, value)
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite(sameSite)
+                .path(PATH)
+                .maxAge(maxAge)
+                .build()
+                .toString();
+    }
+}
@@ -1,5 +1,6 @@
 package com.ecommerce.user.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -23,4 +24,8 @@ public class LoginResponse {
     
     @Schema(description = "사용자 권한", example = "USER")
     private final String role;
+    
+    // 응답 본문이 아닌 HttpOnly 쿠키로 내려준다 (스크립트에서 읽을 수 없도록)
+    @JsonIgnore
+    private final String refreshToken;
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.ecommerce.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+@Schema(description = "액세스 토큰 재발급 응답")
+public class TokenRefreshResponse {
+    
+    @Schema(description = "JWT 액세스 토큰", example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
+    private final String accessToken;
+    
+    @Schema(description = "토큰 타입", example = "Bearer")
+    private final String tokenType = "Bearer";
+}
@@ -18,8 +18,9 @@ public enum LoginResultCode implements ResultCode {
     ACCOUNT_LOCKED("U1004", "계정이 잠겨있습니다"),
     TOKEN_EXPIRED("U1005", "토큰이 만료되었습니다"),
     INVALID_TOKEN("U1006", "유효하지 않은 토큰입니다"),
-    INVALID_ADMIN_SECRET("U1007", "관리자 등록 권한이 없습니다");
-
+    INVALID_ADMIN_SECRET("U1007", "관리자 등록 권한이 없습니다"),
+    LOGIN_BUSY("U1008", "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요");
+    
     private final String code;
     private final String message;
 }
\ No newline at end of file
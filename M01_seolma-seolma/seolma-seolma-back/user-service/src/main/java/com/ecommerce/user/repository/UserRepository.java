@@ -1,10 +1,14 @@
 package com.ecommerce.user.repository;
 
 import com.ecommerce.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, String> {
@@ -15,4 +19,16 @@ public interface UserRepository extends JpaRepository<User, String> {
     
     @Query("SELECT u FROM User u WHERE u.id = :id")
     Optional<User> findByIdWithQuery(@Param("id") String id);
+    
+    // 로그인 아이디 필터 적재용 (PK 순서로 lastId 이후부터 아이디만)
+    @Query("SELECT u.id FROM User u WHERE u.id > :lastId ORDER BY u.id")
+    List<String> findIdsAfter(@Param("lastId") String lastId, Pageable pageable);
+    
+    // 로그인 시 비밀번호 해시 갱신 (해시 계산 중에 비밀번호가 바뀌었으면 갱신하지 않음)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :id AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") String id, 
+                                  @Param("oldPassword") String oldPassword, 
+                                  @Param("newPassword") String newPassword);
 }
\ No newline at end of file
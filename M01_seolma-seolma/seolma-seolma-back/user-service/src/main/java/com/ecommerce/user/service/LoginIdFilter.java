@@ -0,0 +1,241 @@
+package com.ecommerce.user.service;
+
+import com.ecommerce.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 가입된 로그인 아이디 Bloom filter (아이디 중복 확인용)
+ *
+ * 회원가입 폼은 입력할 때마다 아이디 중복 확인을 호출한다.
+ * 필터에 없는 아이디는 확실히 가입되지 않은 아이디이므로 DB를 조회하지 않고 사용 가능으로 응답하고,
+ * 필터에 있을 수도 있는 아이디만 DB에서 확인한다.
+ * - 크기는 예상 아이디 수(expected-insertions)와 목표 오탐률(false-positive-rate)로 정한다
+ * - DB 콜레이션이 대소문자를 구분하지 않으므로 소문자로 바꿔 넣는다 (오탐만 늘고 누락은 없음)
+ *
+ * 기동 후 백그라운드에서 전체 아이디를 적재하고, 가입은 즉시 반영한다.
+ * 다른 노드에서 가입한 아이디는 주기적인 전체 재적재(user.login-id-filter.rebuild-interval-ms)로 반영된다.
+ *
+ * 메트릭: user.login-id-filter.checks{result=absent|present|false_positive},
+ *         user.login-id-filter.expected-fpp, user.login-id-filter.ids
+ */
+@Slf4j
+@Component
+public class LoginIdFilter {
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final int loadBatchSize;
+    private final long bitCount;
+    private final int hashCount;
+
+    private volatile Bits bits;
+    // 전체 재적재 중인 새 필터 (적재 중 가입한 아이디도 함께 넣음)
+    private volatile Bits building;
+    private volatile boolean ready;
+    // 가입 반영(읽기 잠금)과 필터 교체(쓰기 잠금)를 배타적으로 처리
+    // (교체 직전의 필터에만 넣고 새 필터에는 빠지는 경우 방지)
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private final Counter absent;
+    private final Counter present;
+    private final Counter falsePositives;
+
+    public LoginIdFilter(UserRepository userRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${user.login-id-filter.enabled:true}") boolean enabled,
+                         @Value("${user.login-id-filter.expected-insertions:1000000}") long expectedInsertions,
+                         @Value("${user.login-id-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                         @Value("${user.login-id-filter.load-batch-size:10000}") int loadBatchSize) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.loadBatchSize = loadBatchSize;
+        // m = -n ln p / (ln 2)^2, k = m / n * ln 2
+        long n = Math.max(1, expectedInsertions);
+        this.bitCount = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.bits = new Bits(bitCount);
+
+        this.absent = Counter.builder("user.login-id-filter.checks").tag("result", "absent").register(meterRegistry);
+        this.present = Counter.builder("user.login-id-filter.checks").tag("result", "present").register(meterRegistry);
+        this.falsePositives = Counter.builder("user.login-id-filter.checks").tag("result", "false_positive").register(meterRegistry);
+        Gauge.builder("user.login-id-filter.expected-fpp", this, LoginIdFilter::expectedFalsePositiveRate).register(meterRegistry);
+        Gauge.builder("user.login-id-filter.ids", this, filter -> filter.bits.insertions.get()).register(meterRegistry);
+    }
+
+    /**
+     * 적재가 끝나 사용할 수 있는지 여부 (아니면 항상 DB 확인)
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * 가입되었을 수도 있는 아이디인지 여부 (false면 확실히 가입되지 않은 아이디)
+     */
+    public boolean mightContain(String loginId) {
+        boolean result = bits.mightContain(hashes(loginId), hashCount);
+        (result ? present : absent).increment();
+        return result;
+    }
+
+    /**
+     * 필터에는 있었지만 DB에는 없었던 아이디 (오탐률 측정용)
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * 가입한 아이디 추가 (트랜잭션이 롤백되어도 오탐만 하나 늘어남)
+     */
+    public void add(String loginId) {
+        long[] hashes = hashes(loginId);
+        swapLock.readLock().lock();
+        try {
+            bits.put(hashes, hashCount);
+            Bits pending = building;
+            if (pending != null) {
+                pending.put(hashes, hashCount);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재적재 (기동 직후 1회 + 주기적으로)
+     * 새 필터를 따로 만든 뒤 교체하므로 적재 중에도 기존 필터를 사용할 수 있다.
+     */
+    @Scheduled(initialDelayString = "${user.login-id-filter.initial-delay-ms:0}",
+            fixedDelayString = "${user.login-id-filter.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        Bits newBits = new Bits(bitCount);
+        // 적재 시작 전에 공개해야 조회 범위를 지나간 뒤 가입한 아이디도 빠지지 않는다
+        setBuilding(newBits);
+        try {
+            String lastId = "";
+            while (true) {
+                List<String> ids = userRepository.findIdsAfter(lastId, PageRequest.of(0, loadBatchSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                ids.forEach(id -> newBits.put(hashes(id), hashCount));
+                lastId = ids.get(ids.size() - 1);
+            }
+            swapLock.writeLock().lock();
+            try {
+                bits = newBits;
+                building = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            ready = true;
+        } catch (Exception e) {
+            log.error("Login id filter rebuild failed", e);
+            setBuilding(null);
+            return;
+        }
+        log.info("Login id filter rebuilt: ids={}, bits={}, hashes={}, expectedFpp={}, elapsedMs={}",
+                newBits.insertions.get(), bitCount, hashCount, expectedFalsePositiveRate(),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    private void setBuilding(Bits newBuilding) {
+        swapLock.writeLock().lock();
+        try {
+            building = newBuilding;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 채워진 비트 비율로 계산한 예상 오탐률 ((채워진 비트 / 전체 비트)^k)
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) bits.setBits.get() / bitCount, hashCount);
+    }
+
+    /**
+     * 아이디 → 64비트 해시 2개 (k개의 위치는 h1 + i * h2로 만든다)
+     */
+    private static long[] hashes(String loginId) {
+        String key = loginId.toLowerCase(Locale.ROOT);
+        // FNV-1a 64
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return new long[]{mix(hash), mix(hash ^ 0x9e3779b97f4a7c15L) | 1};
+    }
+
+    // splitmix64 finalizer (FNV 결과의 하위 비트 편향 제거)
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 비트 배열 (여러 스레드가 동시에 넣어도 비트를 잃지 않도록 CAS로 설정)
+     */
+    private static final class Bits {
+
+        private final long size;
+        private final AtomicLongArray words;
+        private final AtomicLong setBits = new AtomicLong();
+        private final AtomicLong insertions = new AtomicLong();
+
+        private Bits(long size) {
+            this.size = size;
+            this.words = new AtomicLongArray(Math.toIntExact((size + 63) >>> 6));
+        }
+
+        private void put(long[] hashes, int hashCount) {
+            for (int i = 0; i < hashCount; i++) {
+                long index = Long.remainderUnsigned(hashes[0] + i * hashes[1], size);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                do {
+                    current = words.get(word);
+                    if ((current & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(word, current, current | mask));
+                if ((current & mask) == 0) {
+                    setBits.incrementAndGet();
+                }
+            }
+            insertions.incrementAndGet();
+        }
+
+        private boolean mightContain(long[] hashes, int hashCount) {
+            for (int i = 0; i < hashCount; i++) {
+                long index = Long.remainderUnsigned(hashes[0] + i * hashes[1], size);
+                if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.ecommerce.user.service;
+
+import com.ecommerce.common.exception.BusinessException;
+import com.ecommerce.user.exception.LoginResultCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 계산 (BCrypt 전용 스레드 풀)
+ *
+ * BCrypt는 한 번에 수십 ms의 CPU를 쓰므로 요청 스레드에서 바로 계산하면 로그인이 몰릴 때 모든 코어를 차지한다.
+ * - 해시 계산은 크기가 고정된 작업자(workers)에서만 실행해 다른 API가 쓸 CPU를 남겨 둔다
+ * - 대기 중인 작업이 workers + queue-capacity를 넘으면 기다리지 않고 LOGIN_BUSY로 거절한다
+ * - 존재하지 않는 아이디는 해시를 계산하지 않고, 최근 실제 검증에 걸린 시간만큼 기다린 뒤 실패시킨다
+ *   (응답 시간으로 아이디 존재 여부를 알 수 없도록 하면서 CPU는 쓰지 않음)
+ *
+ * 메트릭: user.password.hash{operation=matches|encode}, user.password.hash.pending, user.password.hash.rejected
+ */
+@Slf4j
+@Component
+public class PasswordHasher implements DisposableBean {
+
+    // 최근 검증 시간의 지수 이동 평균 가중치
+    private static final double EWMA_ALPHA = 0.1;
+
+    private final PasswordEncoder passwordEncoder;
+    private final int maxPending;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor hashExecutor;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile double averageVerifyNanos;
+
+    private final Timer matchesTimer;
+    private final Timer encodeTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${password.hash.workers:0}") int workers,
+                          @Value("${password.hash.queue-capacity:100}") int queueCapacity,
+                          @Value("${password.hash.timeout-ms:5000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        // 0이면 코어의 절반 (나머지는 다른 API 처리용)
+        int workerCount = workers > 0 ? workers : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.maxPending = workerCount + queueCapacity;
+        this.timeoutMillis = timeoutMillis;
+        // 대기 작업 수는 pending으로 제한하므로 큐 자체는 제한하지 않음
+        this.hashExecutor = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("password-hash-"));
+
+        this.matchesTimer = Timer.builder("user.password.hash").tag("operation", "matches").register(meterRegistry);
+        this.encodeTimer = Timer.builder("user.password.hash").tag("operation", "encode").register(meterRegistry);
+        this.rejected = Counter.builder("user.password.hash.rejected").register(meterRegistry);
+        Gauge.builder("user.password.hash.pending", pending, AtomicInteger::get).register(meterRegistry);
+
+        // 존재하지 않는 아이디의 응답 지연 초기값 (기동 시 한 번 실제로 검증해 측정)
+        String sample = passwordEncoder.encode(UUID.randomUUID().toString());
+        long startedAt = System.nanoTime();
+        passwordEncoder.matches(UUID.randomUUID().toString(), sample);
+        this.averageVerifyNanos = System.nanoTime() - startedAt;
+        log.info("Password hasher started: workers={}, maxPending={}, verifyMs={}",
+                workerCount, maxPending, TimeUnit.NANOSECONDS.toMillis((long) averageVerifyNanos));
+    }
+
+    /**
+     * 비밀번호 검증 (대기 포함 최대 timeout-ms)
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        long startedAt = System.nanoTime();
+        boolean matched = execute(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+        // 대기 시간까지 포함한 실제 응답 지연을 기록 (존재하지 않는 아이디 응답에 사용)
+        averageVerifyNanos += EWMA_ALPHA * ((System.nanoTime() - startedAt) - averageVerifyNanos);
+        return matched;
+    }
+
+    /**
+     * 비밀번호 해시 생성
+     */
+    public String encode(String rawPassword) {
+        return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 현재 설정(BCrypt strength)보다 약한 해시인지 여부 (로그인 성공 시 다시 해시)
+     */
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 존재하지 않는 아이디: 해시 계산 없이 실제 검증과 비슷한 시간만큼 기다림
+     * 과부하 상태면 실제 검증과 똑같이 LOGIN_BUSY로 거절한다.
+     */
+    public void simulateMatches() {
+        if (pending.get() >= maxPending) {
+            rejected.increment();
+            throw new BusinessException(LoginResultCode.LOGIN_BUSY);
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep((long) averageVerifyNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        hashExecutor.shutdownNow();
+    }
+
+    /**
+     * 해시 작업자에서 실행 (대기 작업이 많으면 즉시 거절)
+     *
+     * @param timer 해시 계산 시간만 기록 (대기 시간 제외)
+     */
+    private <T> T execute(Timer timer, Supplier<T> hash) {
+        Callable<T> task = () -> {
+            long startedAt = System.nanoTime();
+            try {
+                return hash.get();
+            } finally {
+                timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        };
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            rejected.increment();
+            throw new BusinessException(LoginResultCode.LOGIN_BUSY);
+        }
+        try {
+            Future<T> future = hashExecutor.submit(task);
+            try {
+                return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                rejected.increment();
+                throw new BusinessException(LoginResultCode.LOGIN_BUSY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(LoginResultCode.LOGIN_BUSY);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+}
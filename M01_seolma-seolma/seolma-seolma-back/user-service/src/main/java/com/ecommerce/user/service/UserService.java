@@ -2,17 +2,20 @@ package com.ecommerce.user.service;
 
 import com.ecommerce.common.exception.BusinessException;
 import com.ecommerce.common.security.JwtTokenProvider;
+import com.ecommerce.common.security.TokenRevocationIndex;
+import com.ecommerce.common.security.TokenVerification;
 import com.ecommerce.user.domain.User;
 import com.ecommerce.user.domain.UserRole;
 import com.ecommerce.user.dto.LoginRequest;
 import com.ecommerce.user.dto.LoginResponse;
 import com.ecommerce.user.dto.SignupRequest;
+import com.ecommerce.user.dto.TokenRefreshResponse;
 import com.ecommerce.user.exception.LoginResultCode;
 import com.ecommerce.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -22,18 +25,25 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
     
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final LoginIdFilter loginIdFilter;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationIndex tokenRevocationIndex;
     
-    @Transactional
+    /**
+     * 회원가입
+     * 해시 계산(전용 풀 대기 포함) 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행하고,
+     * 중복 확인과 저장은 각각 짧은 트랜잭션으로 처리한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void signup(SignupRequest request) {
         // 중복 아이디 검증
         if (userRepository.existsById(request.getLoginId())) {
             throw new BusinessException(LoginResultCode.DUPLICATE_LOGIN_ID);
         }
         
-        // 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        // 비밀번호 암호화 (해시 전용 스레드 풀에서 계산)
+        String encodedPassword = passwordHasher.encode(request.getPassword());
         
         // 권한 결정 로직
         UserRole userRole = UserRole.USER; // 기본값
@@ -61,25 +71,46 @@ public class UserService {
                 .build();
         
         userRepository.save(user);
+        loginIdFilter.add(request.getLoginId());
         log.info("New user registered: {} with role: {}", request.getLoginId(), userRole);
     }
     
-    @Transactional
+    /**
+     * 로그인
+     * 사용자 조회만 짧은 읽기로 하고, 비밀번호 검증(전용 풀 대기 포함)은 트랜잭션 밖에서 실행한다.
+     * 로그인이 몰려 해시 풀이 가득 차도 대기 중인 요청이 DB 커넥션을 잡고 있지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse login(LoginRequest request) {
-        // 사용자 조회
-        User user = userRepository.findById(request.getLoginId())
-                .orElseThrow(() -> new BusinessException(LoginResultCode.INVALID_CREDENTIALS));
+        // 사용자 조회 (없는 아이디도 검증과 비슷한 시간이 걸린 뒤 같은 오류로 응답)
+        User user = userRepository.findById(request.getLoginId()).orElse(null);
+        if (user == null) {
+            passwordHasher.simulateMatches();
+            throw new BusinessException(LoginResultCode.INVALID_CREDENTIALS);
+        }
         
         // 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             throw new BusinessException(LoginResultCode.INVALID_CREDENTIALS);
         }
         
-        // JWT 토큰 생성
+        // 현재 설정보다 약한 해시면 로그인한 비밀번호로 다시 해시 (계산 후 짧은 UPDATE로 저장)
+        if (passwordHasher.needsUpgrade(user.getPassword())) {
+            String upgradedPassword = passwordHasher.encode(request.getPassword());
+            if (userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), upgradedPassword) > 0) {
+                log.info("Password hash upgraded: {}", user.getLoginId());
+            }
+        }
+        
+        // JWT 토큰 생성 (액세스 토큰은 짧게, 만료되면 리프레시 토큰으로 재발급)
         String accessToken = jwtTokenProvider.createToken(
                 user.getId(), 
                 user.getRole().getAuthority()
         );
+        String refreshToken = jwtTokenProvider.createRefreshToken(
+                user.getId(), 
+                user.getRole().getAuthority()
+        );
         
         log.info("User logged in: {}", user.getLoginId());
         
@@ -87,16 +118,62 @@ public class UserService {
                 accessToken,
                 user.getId(),
                 user.getUserName(),
-                user.getRole().name()
+                user.getRole().name(),
+                refreshToken
         );
     }
     
+    /**
+     * 액세스 토큰 재발급 (비밀번호 검증, DB 조회 없이 리프레시 토큰의 서명/만료/폐기 여부만 확인)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TokenRefreshResponse refresh(String refreshToken) {
+        TokenVerification verification = jwtTokenProvider.verifyRefreshToken(refreshToken);
+        if (verification.getStatus() == TokenVerification.Status.EXPIRED) {
+            throw new BusinessException(LoginResultCode.TOKEN_EXPIRED);
+        }
+        if (!verification.isValid() || tokenRevocationIndex.isRevoked(verification.getTokenId())) {
+            throw new BusinessException(LoginResultCode.INVALID_TOKEN);
+        }
+        
+        String accessToken = jwtTokenProvider.createToken(verification.getSubject(), verification.getRole());
+        return new TokenRefreshResponse(accessToken);
+    }
+    
+    /**
+     * 로그아웃 (액세스 토큰과 리프레시 토큰을 만료 시각까지 폐기, 이미 무효한 토큰은 무시)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void logout(String accessToken, String refreshToken) {
+        TokenVerification access = jwtTokenProvider.verify(accessToken);
+        TokenVerification refresh = jwtTokenProvider.verifyRefreshToken(refreshToken);
+        revoke(access);
+        revoke(refresh);
+        if (access.isValid() || refresh.isValid()) {
+            log.info("User logged out: {}", access.isValid() ? access.getSubject() : refresh.getSubject());
+        }
+    }
+    
     public User findById(String userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(LoginResultCode.USER_NOT_FOUND));
     }
     
+    private void revoke(TokenVerification verification) {
+        if (verification.isValid()) {
+            tokenRevocationIndex.revoke(verification.getTokenId(), verification.getExpiresAt());
+        }
+    }
+    
     public boolean checkLoginIdAvailability(String loginId) {
-        return !userRepository.existsById(loginId);
+        // 필터에 없으면 확실히 가입되지 않은 아이디 (DB 조회 없음)
+        if (loginIdFilter.isReady() && !loginIdFilter.mightContain(loginId)) {
+            return true;
+        }
+        boolean exists = userRepository.existsById(loginId);
+        if (!exists && loginIdFilter.isReady()) {
+            loginIdFilter.recordFalsePositive();
+        }
+        return !exists;
     }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.ecommerce.user.service;
+
+import com.ecommerce.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+class LoginIdFilterTest {
+
+    @Test
+    @DisplayName("적재한 아이디와 가입한 아이디는 항상 포함 (대소문자 무시)")
+    void rebuild_ContainsLoadedAndAddedIds() {
+        // given
+        UserRepository userRepository = mock(UserRepository.class);
+        given(userRepository.findIdsAfter(eq(""), any(Pageable.class))).willReturn(List.of("alice", "bob"));
+        given(userRepository.findIdsAfter(eq("bob"), any(Pageable.class))).willReturn(List.of());
+        LoginIdFilter filter = new LoginIdFilter(userRepository, new SimpleMeterRegistry(), true, 1000, 0.01, 2);
+
+        // when
+        filter.rebuild();
+        filter.add("carol");
+
+        // then
+        assertThat(filter.isReady()).isTrue();
+        assertThat(filter.mightContain("alice")).isTrue();
+        assertThat(filter.mightContain("BOB")).isTrue();
+        assertThat(filter.mightContain("carol")).isTrue();
+    }
+
+    @Test
+    @DisplayName("설정한 오탐률 근처에서 동작")
+    void mightContain_FalsePositiveRateNearConfigured() {
+        // given
+        LoginIdFilter filter = new LoginIdFilter(mock(UserRepository.class), new SimpleMeterRegistry(), true, 10000, 0.01, 1000);
+        for (int i = 0; i < 10000; i++) {
+            filter.add("user" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100000; i++) {
+            if (filter.mightContain("guest" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives / 100000.0).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+    }
+}
@@ -0,0 +1,84 @@
+package com.ecommerce.user.service;
+
+import com.ecommerce.common.exception.BusinessException;
+import com.ecommerce.user.exception.LoginResultCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    @Test
+    @DisplayName("설정보다 낮은 strength의 해시는 다시 해시 대상")
+    void needsUpgrade_WeakerStrength() {
+        // given
+        PasswordHasher hasher = new PasswordHasher(new BCryptPasswordEncoder(5), new SimpleMeterRegistry(), 1, 10, 5000);
+        String weak = new BCryptPasswordEncoder(4).encode("Password123!");
+        String current = hasher.encode("Password123!");
+
+        // when & then
+        assertThat(hasher.matches("Password123!", weak)).isTrue();
+        assertThat(hasher.needsUpgrade(weak)).isTrue();
+        assertThat(hasher.needsUpgrade(current)).isFalse();
+        hasher.destroy();
+    }
+
+    @Test
+    @DisplayName("대기 작업이 가득 차면 기다리지 않고 LOGIN_BUSY")
+    void matches_RejectsWhenSaturated() throws Exception {
+        // given: 작업자 1개, 대기열 0 → 검증 하나가 실행 중이면 다음 요청은 거절
+        BlockingEncoder encoder = new BlockingEncoder();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordHasher hasher = new PasswordHasher(encoder, meterRegistry, 1, 0, 5000);
+        encoder.block = true;
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> hasher.matches("a", "a"));
+        assertThat(encoder.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> hasher.matches("b", "b"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("resultCode", LoginResultCode.LOGIN_BUSY);
+        assertThatThrownBy(hasher::simulateMatches)
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("resultCode", LoginResultCode.LOGIN_BUSY);
+        assertThat(meterRegistry.get("user.password.hash.rejected").counter().count()).isEqualTo(2);
+
+        encoder.release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(hasher.matches("c", "c")).isTrue();
+        hasher.destroy();
+    }
+
+    private static final class BlockingEncoder implements PasswordEncoder {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean block;
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            if (block) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
@@ -2,11 +2,14 @@ package com.ecommerce.user.service;
 
 import com.ecommerce.common.exception.BusinessException;
 import com.ecommerce.common.security.JwtTokenProvider;
+import com.ecommerce.common.security.TokenRevocationIndex;
+import com.ecommerce.common.security.TokenVerification;
 import com.ecommerce.user.domain.User;
 import com.ecommerce.user.domain.UserRole;
 import com.ecommerce.user.dto.LoginRequest;
 import com.ecommerce.user.dto.LoginResponse;
 import com.ecommerce.user.dto.SignupRequest;
+import com.ecommerce.user.dto.TokenRefreshResponse;
 import com.ecommerce.user.exception.LoginResultCode;
 import com.ecommerce.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -15,7 +18,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
 
@@ -30,11 +32,17 @@ class UserServiceTest {
     private UserRepository userRepository;
     
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+    
+    @Mock
+    private LoginIdFilter loginIdFilter;
     
     @Mock
     private JwtTokenProvider jwtTokenProvider;
     
+    @Mock
+    private TokenRevocationIndex tokenRevocationIndex;
+    
     @InjectMocks
     private UserService userService;
     
@@ -44,7 +52,7 @@ class UserServiceTest {
         // given
         SignupRequest request = new SignupRequest("testuser", "Password123!", "테스트유저");
         given(userRepository.existsById(request.getLoginId())).willReturn(false);
-        given(passwordEncoder.encode(request.getPassword())).willReturn("encodedPassword");
+        given(passwordHasher.encode(request.getPassword())).willReturn("encodedPassword");
         
         // when
         assertThatCode(() -> userService.signup(request))
@@ -52,6 +60,7 @@ class UserServiceTest {
         
         // then
         verify(userRepository).save(any(User.class));
+        verify(loginIdFilter).add("testuser");
     }
     
     @Test
@@ -67,6 +76,21 @@ class UserServiceTest {
                 .hasFieldOrPropertyWithValue("resultCode", LoginResultCode.DUPLICATE_LOGIN_ID);
     }
     
+    @Test
+    @DisplayName("필터에 없는 아이디는 DB 조회 없이 사용 가능")
+    void checkLoginIdAvailability_AbsentInFilter() {
+        // given
+        given(loginIdFilter.isReady()).willReturn(true);
+        given(loginIdFilter.mightContain("newuser")).willReturn(false);
+        
+        // when
+        boolean available = userService.checkLoginIdAvailability("newuser");
+        
+        // then
+        assertThat(available).isTrue();
+        verify(userRepository, never()).existsById(anyString());
+    }
+    
     @Test
     @DisplayName("로그인 성공")
     void login_Success() {
@@ -80,14 +104,16 @@ class UserServiceTest {
                 .build();
         
         given(userRepository.findById(request.getLoginId())).willReturn(Optional.of(user));
-        given(passwordEncoder.matches(request.getPassword(), user.getPassword())).willReturn(true);
+        given(passwordHasher.matches(request.getPassword(), user.getPassword())).willReturn(true);
         given(jwtTokenProvider.createToken(anyString(), anyString())).willReturn("jwt-token");
+        given(jwtTokenProvider.createRefreshToken(anyString(), anyString())).willReturn("refresh-token");
         
         // when
         LoginResponse response = userService.login(request);
         
         // then
         assertThat(response.getAccessToken()).isEqualTo("jwt-token");
+        assertThat(response.getRefreshToken()).isEqualTo("refresh-token");
         assertThat(response.getUserName()).isEqualTo("테스트유저");
         assertThat(response.getRole()).isEqualTo("USER");
     }
@@ -103,5 +129,69 @@ class UserServiceTest {
         assertThatThrownBy(() -> userService.login(request))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("resultCode", LoginResultCode.INVALID_CREDENTIALS);
+        verify(passwordHasher).simulateMatches();
+        verify(passwordHasher, never()).matches(anyString(), anyString());
+    }
+    
+    @Test
+    @DisplayName("약한 해시로 저장된 사용자는 로그인 성공 시 다시 해시")
+    void login_UpgradesWeakHash() {
+        // given
+        LoginRequest request = new LoginRequest("testuser", "Password123!");
+        User user = User.builder()
+                .loginId("testuser")
+                .password("weakHash")
+                .userName("테스트유저")
+                .role(UserRole.USER)
+                .build();
+        
+        given(userRepository.findById(request.getLoginId())).willReturn(Optional.of(user));
+        given(passwordHasher.matches(request.getPassword(), "weakHash")).willReturn(true);
+        given(passwordHasher.needsUpgrade("weakHash")).willReturn(true);
+        given(passwordHasher.encode(request.getPassword())).willReturn("strongHash");
+        given(userRepository.updatePasswordIfUnchanged("testuser", "weakHash", "strongHash")).willReturn(1);
+        given(jwtTokenProvider.createToken(anyString(), anyString())).willReturn("jwt-token");
+        
+        // when
+        userService.login(request);
+        
+        // then
+        verify(userRepository).updatePasswordIfUnchanged("testuser", "weakHash", "strongHash");
+    }
+    
+    @Test
+    @DisplayName("리프레시 토큰으로 액세스 토큰 재발급 (사용자 조회, 비밀번호 검증 없음)")
+    void refresh_Success() {
+        // given
+        TokenVerification verification = TokenVerification.valid("testuser", "ROLE_USER", "refresh-id",
+                System.currentTimeMillis() + 60_000);
+        given(jwtTokenProvider.verifyRefreshToken("refresh-token")).willReturn(verification);
+        given(tokenRevocationIndex.isRevoked("refresh-id")).willReturn(false);
+        given(jwtTokenProvider.createToken("testuser", "ROLE_USER")).willReturn("new-jwt-token");
+        
+        // when
+        TokenRefreshResponse response = userService.refresh("refresh-token");
+        
+        // then
+        assertThat(response.getAccessToken()).isEqualTo("new-jwt-token");
+        verifyNoInteractions(userRepository, passwordHasher);
+    }
+    
+    @Test
+    @DisplayName("로그아웃한 리프레시 토큰으로는 재발급 실패")
+    void refresh_RevokedToken() {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        given(jwtTokenProvider.verify("jwt-token")).willReturn(TokenVerification.valid("testuser", "ROLE_USER", "access-id", expiresAt));
+        given(jwtTokenProvider.verifyRefreshToken("refresh-token")).willReturn(TokenVerification.valid("testuser", "ROLE_USER", "refresh-id", expiresAt));
+        userService.logout("jwt-token", "refresh-token");
+        verify(tokenRevocationIndex).revoke("access-id", expiresAt);
+        verify(tokenRevocationIndex).revoke("refresh-id", expiresAt);
+        given(tokenRevocationIndex.isRevoked("refresh-id")).willReturn(true);
+        
+        // when & then
+        assertThatThrownBy(() -> userService.refresh("refresh-token"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("resultCode", LoginResultCode.INVALID_TOKEN);
     }
 }
\ No newline at end of file
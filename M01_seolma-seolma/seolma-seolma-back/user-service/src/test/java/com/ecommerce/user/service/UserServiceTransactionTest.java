@@ -0,0 +1,134 @@
+package com.ecommerce.user.service;
+
+import com.ecommerce.common.exception.BusinessException;
+import com.ecommerce.common.security.JwtTokenProvider;
+import com.ecommerce.common.security.TokenRevocationIndex;
+import com.ecommerce.user.domain.User;
+import com.ecommerce.user.domain.UserRole;
+import com.ecommerce.user.dto.LoginRequest;
+import com.ecommerce.user.exception.LoginResultCode;
+import com.ecommerce.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * 로그인 트랜잭션 범위 (실제 트랜잭션 프록시 + 커넥션 수를 세는 DataSource)
+ */
+class UserServiceTransactionTest {
+
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final BlockingEncoder encoder = new BlockingEncoder();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 작업자 1개 + 대기 1개
+    private final PasswordHasher passwordHasher = new PasswordHasher(encoder, meterRegistry, 1, 1, 5000);
+
+    @AfterEach
+    void tearDown() {
+        encoder.release.countDown();
+        passwordHasher.destroy();
+    }
+
+    @Test
+    @DisplayName("해시 풀이 가득 차서 대기하는 동안 로그인 요청은 DB 커넥션을 잡지 않음")
+    void login_DoesNotHoldConnectionWhileHashPoolSaturated() throws Exception {
+        // given
+        UserRepository userRepository = mock(UserRepository.class);
+        JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+        given(userRepository.findById("testuser")).willReturn(Optional.of(User.builder()
+                .loginId("testuser")
+                .password("Password123!")
+                .userName("테스트유저")
+                .role(UserRole.USER)
+                .build()));
+        given(jwtTokenProvider.createToken(anyString(), anyString())).willReturn("jwt-token");
+        UserService userService = transactional(new UserService(userRepository, passwordHasher,
+                mock(LoginIdFilter.class), jwtTokenProvider, mock(TokenRevocationIndex.class)));
+        LoginRequest request = new LoginRequest("testuser", "Password123!");
+
+        // when: 하나는 작업자에서 검증 중, 하나는 대기열에서 대기
+        encoder.block = true;
+        CompletableFuture<?> running = CompletableFuture.runAsync(() -> userService.login(request));
+        CompletableFuture<?> queued = CompletableFuture.runAsync(() -> userService.login(request));
+        assertThat(encoder.started.await(5, TimeUnit.SECONDS)).isTrue();
+        awaitPending(2);
+
+        // then
+        assertThat(openConnections.get()).isZero();
+        assertThatThrownBy(() -> userService.login(request))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("resultCode", LoginResultCode.LOGIN_BUSY);
+        assertThat(openConnections.get()).isZero();
+
+        encoder.release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+    }
+
+    private UserService transactional(UserService target) throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        given(dataSource.getConnection()).willAnswer(invocation -> {
+            openConnections.incrementAndGet();
+            Connection connection = mock(Connection.class);
+            willAnswer(closed -> openConnections.decrementAndGet()).given(connection).close();
+            return connection;
+        });
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TransactionInterceptor((TransactionManager) new DataSourceTransactionManager(dataSource),
+                new AnnotationTransactionAttributeSource()));
+        return (UserService) proxyFactory.getProxy();
+    }
+
+    private void awaitPending(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("user.password.hash.pending").gauge().value() < expected) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static final class BlockingEncoder implements PasswordEncoder {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean block;
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            if (block) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
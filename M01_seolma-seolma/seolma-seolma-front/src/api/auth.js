@@ -18,9 +18,9 @@ export const authAPI = {
         return userServiceClient.post('/api/v1/users/auth/login', credentials)
     },
 
-    // 로그아웃
+    // 로그아웃 (토큰 폐기 + 리프레시 토큰 쿠키 삭제)
     logout() {
-        return userServiceClient.post('/api/v1/users/auth/logout')
+        return userServiceClient.post('/api/v1/users/auth/logout', null, { skipErrorModal: true })
     },
 
     // 토큰 갱신
@@ -63,10 +63,17 @@ export const useAuthStore = defineStore('auth', () => {
         }
     }
 
-    const logout = () => {
-        // 로컬 상태 초기화
-        setAccessToken(null)
-        setUser(null)
+    const logout = async () => {
+        try {
+            // 서버에서 토큰 폐기 (실패해도 로컬 상태는 초기화)
+            await authAPI.logout()
+        } catch (error) {
+            console.error('로그아웃 요청 실패:', error)
+        } finally {
+            // 로컬 상태 초기화
+            setAccessToken(null)
+            setUser(null)
+        }
     }
 
     const fetchProfile = async () => {